@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Advancing a postings block of delta encoded doc IDs to a target, by unpacking the whole block and then scanning it
+// against searching the block as it is unpacked. targetIndex is the index of the doc ID that the target lands on.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class AdvanceBenchmark {
+
+  @Param({"5", "13"})
+  int bitsPerValue;
+
+  @Param({"3", "64", "127"})
+  int targetIndex;
+
+  private int initOffset;
+  private int target;
+  private int[] packed;
+  private int[] intsOutput = new int[128];
+
+  @Setup(Level.Trial)
+  public void init() {
+    initOffset = ThreadLocalRandom.current().nextInt(1 << 20);
+    int[] docs = new int[128];
+    int doc = initOffset;
+    for (int i = 0; i < 128; i++) {
+      docs[i] = doc += 1 + ThreadLocalRandom.current().nextInt((1 << bitsPerValue) - 1);
+    }
+    packed = new int[bitsPerValue * 4];
+    SimdBitPacking.simdPackD1(initOffset, docs, packed, bitsPerValue);
+    target = docs[targetIndex];
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int unpackThenScan() {
+    SimdBitPacking.simdUnpackD1(initOffset, packed, intsOutput, bitsPerValue);
+    int i = 0;
+    while (i < 128 && intsOutput[i] < target) {
+      i++;
+    }
+    return i;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int findNextGEQD1() {
+    return SimdBitPacking.simdFindNextGEQD1(initOffset, packed, bitsPerValue, target);
+  }
+}
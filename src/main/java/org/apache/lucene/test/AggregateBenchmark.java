@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Summing 64 packed blocks, as a numeric doc values aggregation does, by unpacking each block into an array and then
+// summing it, against the fused kernels that sum the blocks as they unpack them.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class AggregateBenchmark {
+
+  private static final int NUM_BLOCKS = 64;
+
+  @Param({"5", "13", "27"})
+  int bitsPerValue;
+
+  private int[] packed;
+  private ByteBuffer longsPacked;
+  private int[] intsOutput = new int[128];
+  private long[] longsOutput = new long[128];
+  private long[] tmp = new long[ForUtil.SCRATCH_SIZE];
+
+  @Setup(Level.Trial)
+  public void init() throws IOException {
+    final int numInts = bitsPerValue * 4;
+    packed = new int[NUM_BLOCKS * numInts];
+    longsPacked = ByteBuffer.allocate(NUM_BLOCKS * bitsPerValue * 16);
+    ByteBufferDataOutput out = new ByteBufferDataOutput(longsPacked);
+    int[] ints = new int[128];
+    long[] longs = new long[128];
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      for (int i = 0; i < 128; i++) {
+        ints[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bitsPerValue);
+        longs[i] = ints[i];
+      }
+      SimdBitPacking.simdPack(ints, 0, packed, block * numInts, bitsPerValue);
+      ForUtil.encode(longs, bitsPerValue, out, tmp);
+    }
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long simdUnpackThenSum() {
+    long sum = 0;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      SimdBitPacking.simdUnpack(packed, block * bitsPerValue * 4, intsOutput, 0, bitsPerValue);
+      for (int i = 0; i < 128; i++) {
+        sum += intsOutput[i];
+      }
+    }
+    return sum;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long simdUnpackSum() {
+    long sum = 0;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      sum = SimdBitPacking.simdUnpackSum(packed, block * bitsPerValue * 4, bitsPerValue, sum);
+    }
+    return sum;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long forUtilDecodeThenSum() throws IOException {
+    ByteBufferDataInput in = new ByteBufferDataInput(longsPacked);
+    long sum = 0;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      ForUtil.decode(bitsPerValue, in, tmp, longsOutput);
+      for (int i = 0; i < 128; i++) {
+        sum += longsOutput[i];
+      }
+    }
+    return sum;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long forUtilSum() throws IOException {
+    ByteBufferDataInput in = new ByteBufferDataInput(longsPacked);
+    long sum = 0;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      sum = ForUtil.sum(bitsPerValue, in, tmp, longsOutput, sum);
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Unpacking 64 consecutive blocks with one simdUnpack call per block against a single simdUnpackBlocks call.
+// runLength is the number of consecutive blocks that share the same bits per value.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class BatchBenchmark {
+
+  private static final int NUM_BLOCKS = 64;
+
+  @Param({"1", "8", "64"})
+  int runLength;
+
+  private int[] bits = new int[NUM_BLOCKS];
+  private int[] packed;
+  private int[] intsOutput = new int[NUM_BLOCKS * 128];
+
+  @Setup(Level.Trial)
+  public void init() {
+    int numInts = 0;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      bits[block] = block % runLength == 0 ? 1 + ThreadLocalRandom.current().nextInt(24) : bits[block - 1];
+      numInts += bits[block] * 4;
+    }
+    packed = new int[numInts];
+    int[] ints = new int[128];
+    int offset = 0;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      for (int i = 0; i < 128; i++) {
+        ints[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bits[block]);
+      }
+      SimdBitPacking.simdPack(ints, 0, packed, offset, bits[block]);
+      offset += bits[block] * 4;
+    }
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackPerBlock() {
+    int offset = 0;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      SimdBitPacking.simdUnpack(packed, offset, intsOutput, block * 128, bits[block]);
+      offset += bits[block] * 4;
+    }
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackBlocks() {
+    SimdBitPacking.simdUnpackBlocks(packed, 0, bits, NUM_BLOCKS, intsOutput, 0);
+    return intsOutput;
+  }
+}
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
+// Encoding at 1 - 5 bits per value, ForUtil against SimdBitPacking. Decoding, and the other bit widths, are covered by
+// ForUtilDecodeBenchmark and ShapesBenchmark.
 @BenchmarkMode(Mode.Throughput)
 @OutputTimeUnit(TimeUnit.MICROSECONDS)
 @State(Scope.Benchmark)
@@ -33,6 +35,7 @@ public class Benchmark {
   private int[] ints;
   private int[] intsOutput = new int[32];
   private long[] longs;
+  private long[] longsOutput = new long[64];
 
   final ForUtil forUtil = new ForUtil();
 
@@ -50,8 +53,8 @@ public class Benchmark {
 
   @org.openjdk.jmh.annotations.Benchmark
   public long[] encode1ForUtil() throws IOException {
-     forUtil.encode(longs, 1, longs);
-     return longs;
+    forUtil.encode(longs, 1, longsOutput);
+    return longsOutput;
   }
 
   @org.openjdk.jmh.annotations.Benchmark
@@ -62,8 +65,8 @@ public class Benchmark {
 
   @org.openjdk.jmh.annotations.Benchmark
   public long[] encode2ForUtil() throws IOException {
-    forUtil.encode(longs, 2, longs);
-    return longs;
+    forUtil.encode(longs, 2, longsOutput);
+    return longsOutput;
   }
 
   @org.openjdk.jmh.annotations.Benchmark
@@ -74,8 +77,8 @@ public class Benchmark {
 
   @org.openjdk.jmh.annotations.Benchmark
   public long[] encode3ForUtil() throws IOException {
-    forUtil.encode(longs, 3, longs);
-    return longs;
+    forUtil.encode(longs, 3, longsOutput);
+    return longsOutput;
   }
 
   @org.openjdk.jmh.annotations.Benchmark
@@ -86,8 +89,8 @@ public class Benchmark {
 
   @org.openjdk.jmh.annotations.Benchmark
   public long[] encode4ForUtil() throws IOException {
-    forUtil.encode(longs, 4, longs);
-    return longs;
+    forUtil.encode(longs, 4, longsOutput);
+    return longsOutput;
   }
 
   @org.openjdk.jmh.annotations.Benchmark
@@ -98,8 +101,8 @@ public class Benchmark {
 
   @org.openjdk.jmh.annotations.Benchmark
   public long[] encode5ForUtil() throws IOException {
-    forUtil.encode(longs, 5, longs);
-    return longs;
+    forUtil.encode(longs, 5, longsOutput);
+    return longsOutput;
   }
 
   @org.openjdk.jmh.annotations.Benchmark
@@ -107,8 +110,4 @@ public class Benchmark {
     SimdBitPacking.simdPack(ints, intsOutput, 5);
     return intsOutput;
   }
-
-  // TODO decode/unpack
-  // TODO: 6 .. 32
-
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link DataInput} over a heap or direct {@link ByteBuffer}, reading from the buffer's position.
+ * The bulk reads go through {@link ByteBuffer#asLongBuffer()} and {@link ByteBuffer#asIntBuffer()}.
+ */
+final class ByteBufferDataInput extends DataInput {
+
+  private final ByteBuffer buffer;
+
+  ByteBufferDataInput(ByteBuffer buffer) {
+    this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /** Returns the position of the next byte to read. */
+  int position() {
+    return buffer.position();
+  }
+
+  /** Moves to {@code pos}, the position of the next byte to read. */
+  void seek(int pos) {
+    buffer.position(pos);
+  }
+
+  @Override
+  byte readByte() {
+    return buffer.get();
+  }
+
+  @Override
+  int readInt() {
+    return buffer.getInt();
+  }
+
+  @Override
+  long readLong() {
+    return buffer.getLong();
+  }
+
+  @Override
+  void readInts(int[] dst, int offset, int length) {
+    buffer.asIntBuffer().get(dst, offset, length);
+    buffer.position(buffer.position() + length * Integer.BYTES);
+  }
+
+  @Override
+  void readLongs(long[] dst, int offset, int length) {
+    buffer.asLongBuffer().get(dst, offset, length);
+    buffer.position(buffer.position() + length * Long.BYTES);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/** A {@link DataOutput} into a heap or direct {@link ByteBuffer}, writing at the buffer's position. */
+final class ByteBufferDataOutput extends DataOutput {
+
+  private final ByteBuffer buffer;
+
+  ByteBufferDataOutput(ByteBuffer buffer) {
+    this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /** Returns the number of bytes written so far, or rather the position of the next byte to write. */
+  int position() {
+    return buffer.position();
+  }
+
+  @Override
+  void writeByte(byte b) {
+    buffer.put(b);
+  }
+
+  @Override
+  void writeInt(int i) {
+    buffer.putInt(i);
+  }
+
+  @Override
+  void writeLong(long l) {
+    buffer.putLong(l);
+  }
+
+  @Override
+  void writeInts(int[] src, int offset, int length) {
+    buffer.asIntBuffer().put(src, offset, length);
+    buffer.position(buffer.position() + length * Integer.BYTES);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Decoding the same ForUtil blocks from all cores at once, with the ways a reader may get ForUtil's
+// scratch space: a ForUtil allocated per query, a ForUtil per thread from a ThreadLocal, or the static
+// decode with a scratch array that the thread owns. Run with -t 1 to get the single threaded baseline.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class ConcurrentDecodeBenchmark {
+
+  private static final int NUM_BLOCKS = 64;
+
+  @Param({"4", "12", "20"})
+  int bitsPerValue;
+
+  private ByteBuffer blocks;
+
+  private static final ThreadLocal<ForUtil> FOR_UTILS = ThreadLocal.withInitial(ForUtil::new);
+
+  @State(Scope.Thread)
+  public static class Reader {
+    ByteBufferDataInput in;
+    final long[] tmp = new long[ForUtil.SCRATCH_SIZE];
+    final long[] longsOutput = new long[128];
+
+    @Setup(Level.Trial)
+    public void init(ConcurrentDecodeBenchmark benchmark) {
+      // every thread reads the shared blocks through its own position
+      in = new ByteBufferDataInput(benchmark.blocks);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void init() throws IOException {
+    ForUtil forUtil = new ForUtil();
+    blocks = ByteBuffer.allocate(NUM_BLOCKS * forUtil.numBytes(bitsPerValue));
+    ByteBufferDataOutput out = new ByteBufferDataOutput(blocks);
+    long[] longs = new long[128];
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      for (int i = 0; i < 128; i++) {
+        longs[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bitsPerValue);
+      }
+      forUtil.encode(longs, bitsPerValue, out);
+    }
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public long[] allocatePerQuery(Reader reader) throws IOException {
+    ForUtil forUtil = new ForUtil();
+    reader.in.seek(0);
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      forUtil.decode(bitsPerValue, reader.in, reader.longsOutput);
+    }
+    return reader.longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public long[] threadLocal(Reader reader) throws IOException {
+    ForUtil forUtil = FOR_UTILS.get();
+    reader.in.seek(0);
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      forUtil.decode(bitsPerValue, reader.in, reader.longsOutput);
+    }
+    return reader.longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public long[] callerScratch(Reader reader) throws IOException {
+    reader.in.seek(0);
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      ForUtil.decode(bitsPerValue, reader.in, reader.tmp, reader.longsOutput);
+    }
+    return reader.longsOutput;
+  }
+}
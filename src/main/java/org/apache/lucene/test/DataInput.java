@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.IOException;
+
+/**
+ * Abstract base class for reading packed blocks, modeled after Lucene's {@code
+ * org.apache.lucene.store.DataInput}. Multi-byte values are little endian.
+ *
+ * Blocks are read with the bulk methods, {@link #readLongs} for {@link ForUtil} blocks and {@link
+ * #readInts} for {@link SimdBitPacking} blocks, which implementations should override with a
+ * copy of the whole range rather than one value at a time.
+ */
+abstract class DataInput {
+
+  /** Reads and returns a single byte. */
+  abstract byte readByte() throws IOException;
+
+  /** Reads four bytes and returns an int. */
+  int readInt() throws IOException {
+    final byte b1 = readByte();
+    final byte b2 = readByte();
+    final byte b3 = readByte();
+    final byte b4 = readByte();
+    return ((b4 & 0xFF) << 24) | ((b3 & 0xFF) << 16) | ((b2 & 0xFF) << 8) | (b1 & 0xFF);
+  }
+
+  /** Reads eight bytes and returns a long. */
+  long readLong() throws IOException {
+    return (readInt() & 0xFFFFFFFFL) | (((long) readInt()) << 32);
+  }
+
+  /** Reads {@code length} ints into {@code dst}, starting at {@code offset}. */
+  void readInts(int[] dst, int offset, int length) throws IOException {
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = readInt();
+    }
+  }
+
+  /** Reads {@code length} longs into {@code dst}, starting at {@code offset}. */
+  void readLongs(long[] dst, int offset, int length) throws IOException {
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = readLong();
+    }
+  }
+}
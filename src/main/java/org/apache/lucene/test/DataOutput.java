@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.IOException;
+
+/**
+ * Abstract base class for writing packed blocks, modeled after Lucene's {@code
+ * org.apache.lucene.store.DataOutput}. Multi-byte values are little endian, see {@link DataInput}.
+ */
+abstract class DataOutput {
+
+  /** Writes a single byte. */
+  abstract void writeByte(byte b) throws IOException;
+
+  /** Writes an int as four bytes. */
+  void writeInt(int i) throws IOException {
+    writeByte((byte) i);
+    writeByte((byte) (i >> 8));
+    writeByte((byte) (i >> 16));
+    writeByte((byte) (i >> 24));
+  }
+
+  /** Writes a long as eight bytes. */
+  void writeLong(long l) throws IOException {
+    writeInt((int) l);
+    writeInt((int) (l >> 32));
+  }
+
+  /** Writes {@code length} ints from {@code src}, starting at {@code offset}. */
+  void writeInts(int[] src, int offset, int length) throws IOException {
+    for (int i = 0; i < length; ++i) {
+      writeInt(src[offset + i]);
+    }
+  }
+}
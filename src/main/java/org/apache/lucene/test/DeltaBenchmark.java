@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Fused delta coding (simdPackD1/simdUnpackD1) against a scalar pass around simdPack/simdUnpack.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class DeltaBenchmark {
+
+  @Param({"2", "5", "9", "14"})
+  int bitsPerValue;
+
+  private final int initOffset = 1000;
+  private int[] docs;
+  private int[] deltas = new int[128];
+  private int[] packed;
+  private int[] intsOutput = new int[128];
+
+  @Setup(Level.Trial)
+  public void init() {
+    docs = new int[128];
+    int doc = initOffset;
+    for (int i = 0; i < 128; i++) {
+      docs[i] = doc += ThreadLocalRandom.current().nextInt(1 << bitsPerValue);
+    }
+    packed = new int[bitsPerValue * 4];
+    SimdBitPacking.simdPackD1(initOffset, docs, packed, bitsPerValue);
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] packD1() {
+    SimdBitPacking.simdPackD1(initOffset, docs, packed, bitsPerValue);
+    return packed;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] packScalarDelta() {
+    int prev = initOffset;
+    for (int i = 0; i < 128; i++) {
+      deltas[i] = docs[i] - prev;
+      prev = docs[i];
+    }
+    SimdBitPacking.simdPack(deltas, packed, bitsPerValue);
+    return packed;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackD1() {
+    SimdBitPacking.simdUnpackD1(initOffset, packed, intsOutput, bitsPerValue);
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackScalarPrefixSum() {
+    SimdBitPacking.simdUnpack(packed, intsOutput, bitsPerValue);
+    int sum = initOffset;
+    for (int i = 0; i < 128; i++) {
+      intsOutput[i] = sum += intsOutput[i];
+    }
+    return intsOutput;
+  }
+}
@@ -1,5 +1,3 @@
-// This file has been automatically generated, DO NOT EDIT
-
 /*
  * Licensed to the Apache Software Foundation (ASF) under one or more
  * contributor license agreements.  See the NOTICE file distributed with
@@ -19,13 +17,22 @@
 package org.apache.lucene.test;
 
 
-// This is a copy of Lucene's ForUtil, mostly unchanged. The only change is to
-// replace DataIn/Output with long[]
+// This is a copy of Lucene's ForUtil, mostly unchanged. It reads and writes through this package's
+// DataInput and DataOutput, and adds overloads that read and write long[] directly. Unlike Lucene's,
+// encode leaves its input alone: the longs are collapsed into the scratch array rather than in place.
+//
+// An instance holds scratch arrays, so it must be confined to a thread. The static encode, decode and
+// decodeTo32 take the scratch array from the caller instead, and may be called from any thread with
+// any number of threads at once, e.g. from virtual threads that share the DataInput's data.
 
 import java.io.IOException;
 import java.util.Arrays;
-//import org.apache.lucene.store.long[];
-//import org.apache.lucene.store.DataOutput;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
 
 // Inspired from https://fulmicoton.com/posts/bitpacking/
 // Encodes multiple integers in a long to get SIMD-like speedups.
@@ -37,6 +44,9 @@ final class ForUtil {
     static final int BLOCK_SIZE = 128;
     private static final int BLOCK_SIZE_LOG2 = 7;
 
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LONG_LANES = LONG_SPECIES.length();
+
     private static long expandMask32(long mask32) {
         return mask32 | (mask32 << 32);
     }
@@ -61,111 +71,142 @@ final class ForUtil {
         return expandMask8((1L << bitsPerValue) - 1);
     }
 
-    private static void expand8(long[] arr) {
-        for (int i = 0; i < 16; ++i) {
-            long l = arr[i];
-            arr[i] = (l >>> 56) & 0xFFL;
-            arr[16 + i] = (l >>> 48) & 0xFFL;
-            arr[32 + i] = (l >>> 40) & 0xFFL;
-            arr[48 + i] = (l >>> 32) & 0xFFL;
-            arr[64 + i] = (l >>> 24) & 0xFFL;
-            arr[80 + i] = (l >>> 16) & 0xFFL;
-            arr[96 + i] = (l >>> 8) & 0xFFL;
-            arr[112 + i] = l & 0xFFL;
+    // The expand and collapse passes transpose the block between one value per long and 8, 4 or 2
+    // values per long. They work a vector of longs at a time rather than relying on C2 to vectorize
+    // the scalar loops. The expansions read the first 16, 32 or 64 longs a vector at a time, and only
+    // write below them once the vector has been loaded, so they can work in place.
+
+    static void expand8(long[] arr) {
+        for (int i = 0; i < 16; i += LONG_LANES) {
+            final LongVector l = LongVector.fromArray(LONG_SPECIES, arr, i);
+            for (int k = 7; k >= 0; --k) {
+                l.lanewise(VectorOperators.LSHR, 56 - 8 * k).and(0xFFL).intoArray(arr, 16 * k + i);
+            }
         }
     }
 
-    private static void expand8To32(long[] arr) {
-        for (int i = 0; i < 16; ++i) {
-            long l = arr[i];
-            arr[i] = (l >>> 24) & 0x000000FF000000FFL;
-            arr[16 + i] = (l >>> 16) & 0x000000FF000000FFL;
-            arr[32 + i] = (l >>> 8) & 0x000000FF000000FFL;
-            arr[48 + i] = l & 0x000000FF000000FFL;
+    static void expand8To32(long[] arr) {
+        for (int i = 0; i < 16; i += LONG_LANES) {
+            final LongVector l = LongVector.fromArray(LONG_SPECIES, arr, i);
+            for (int k = 3; k >= 0; --k) {
+                l.lanewise(VectorOperators.LSHR, 24 - 8 * k).and(0x000000FF000000FFL).intoArray(arr, 16 * k + i);
+            }
         }
     }
 
-    private static void collapse8(long[] arr) {
-        for (int i = 0; i < 16; ++i) {
-            arr[i] =
-                    (arr[i] << 56)
-                            | (arr[16 + i] << 48)
-                            | (arr[32 + i] << 40)
-                            | (arr[48 + i] << 32)
-                            | (arr[64 + i] << 24)
-                            | (arr[80 + i] << 16)
-                            | (arr[96 + i] << 8)
-                            | arr[112 + i];
+    private static void collapse8(long[] src, long[] dst) {
+        for (int i = 0; i < 16; i += LONG_LANES) {
+            LongVector l = LongVector.fromArray(LONG_SPECIES, src, i).lanewise(VectorOperators.LSHL, 56);
+            for (int k = 1; k < 8; ++k) {
+                l = l.or(LongVector.fromArray(LONG_SPECIES, src, 16 * k + i).lanewise(VectorOperators.LSHL, 56 - 8 * k));
+            }
+            l.intoArray(dst, i);
         }
     }
 
-    private static void expand16(long[] arr) {
-        for (int i = 0; i < 32; ++i) {
-            long l = arr[i];
-            arr[i] = (l >>> 48) & 0xFFFFL;
-            arr[32 + i] = (l >>> 32) & 0xFFFFL;
-            arr[64 + i] = (l >>> 16) & 0xFFFFL;
-            arr[96 + i] = l & 0xFFFFL;
+    static void expand16(long[] arr) {
+        for (int i = 0; i < 32; i += LONG_LANES) {
+            final LongVector l = LongVector.fromArray(LONG_SPECIES, arr, i);
+            for (int k = 3; k >= 0; --k) {
+                l.lanewise(VectorOperators.LSHR, 48 - 16 * k).and(0xFFFFL).intoArray(arr, 32 * k + i);
+            }
         }
     }
 
-    private static void expand16To32(long[] arr) {
-        for (int i = 0; i < 32; ++i) {
-            long l = arr[i];
-            arr[i] = (l >>> 16) & 0x0000FFFF0000FFFFL;
-            arr[32 + i] = l & 0x0000FFFF0000FFFFL;
+    static void expand16To32(long[] arr) {
+        for (int i = 0; i < 32; i += LONG_LANES) {
+            final LongVector l = LongVector.fromArray(LONG_SPECIES, arr, i);
+            l.and(0x0000FFFF0000FFFFL).intoArray(arr, 32 + i);
+            l.lanewise(VectorOperators.LSHR, 16).and(0x0000FFFF0000FFFFL).intoArray(arr, i);
         }
     }
 
-    private static void collapse16(long[] arr) {
-        for (int i = 0; i < 32; ++i) {
-            arr[i] = (arr[i] << 48) | (arr[32 + i] << 32) | (arr[64 + i] << 16) | arr[96 + i];
+    private static void collapse16(long[] src, long[] dst) {
+        for (int i = 0; i < 32; i += LONG_LANES) {
+            LongVector.fromArray(LONG_SPECIES, src, i).lanewise(VectorOperators.LSHL, 48)
+                    .or(LongVector.fromArray(LONG_SPECIES, src, 32 + i).lanewise(VectorOperators.LSHL, 32))
+                    .or(LongVector.fromArray(LONG_SPECIES, src, 64 + i).lanewise(VectorOperators.LSHL, 16))
+                    .or(LongVector.fromArray(LONG_SPECIES, src, 96 + i))
+                    .intoArray(dst, i);
         }
     }
 
-    private static void expand32(long[] arr) {
-        for (int i = 0; i < 64; ++i) {
-            long l = arr[i];
-            arr[i] = l >>> 32;
-            arr[64 + i] = l & 0xFFFFFFFFL;
+    static void expand32(long[] arr) {
+        for (int i = 0; i < 64; i += LONG_LANES) {
+            final LongVector l = LongVector.fromArray(LONG_SPECIES, arr, i);
+            l.and(0xFFFFFFFFL).intoArray(arr, 64 + i);
+            l.lanewise(VectorOperators.LSHR, 32).intoArray(arr, i);
         }
     }
 
-    private static void collapse32(long[] arr) {
-        for (int i = 0; i < 64; ++i) {
-            arr[i] = (arr[i] << 32) | arr[64 + i];
+    private static void collapse32(long[] src, long[] dst) {
+        for (int i = 0; i < 64; i += LONG_LANES) {
+            LongVector.fromArray(LONG_SPECIES, src, i).lanewise(VectorOperators.LSHL, 32)
+                    .or(LongVector.fromArray(LONG_SPECIES, src, 64 + i))
+                    .intoArray(dst, i);
+        }
+    }
+
+    /** Number of longs of the scratch array that the static encode and decode methods take. */
+    static final int SCRATCH_SIZE = BLOCK_SIZE / 2;
+
+    private final long[] tmp = new long[SCRATCH_SIZE];
+
+    /** Number of bits per value that {@link #encode} needs for the 128 integers of {@code longs}, 0 if they are all 0. */
+    static int maxBits(long[] longs) {
+        LongVector accumulator = LongVector.fromArray(LONG_SPECIES, longs, 0);
+        for (int i = LONG_SPECIES.length(); i < BLOCK_SIZE; i += LONG_SPECIES.length()) {
+            accumulator = accumulator.or(LongVector.fromArray(LONG_SPECIES, longs, i));
         }
+        return 64 - Long.numberOfLeadingZeros(accumulator.reduceLanes(VectorOperators.OR));
     }
 
-    private final long[] tmp = new long[BLOCK_SIZE / 2];
+    private final LongArrayDataOutput longArrayOutput = new LongArrayDataOutput();
 
-    /** Encode 128 integers from {@code longs} into {@code out}. */
+    /** Encode 128 integers from {@code longs} into the first {@code 2 * bitsPerValue} longs of {@code out}. */
     void encode(long[] longs, int bitsPerValue, long[] out) throws IOException {
+        longArrayOutput.reset(out);
+        encode(longs, bitsPerValue, longArrayOutput);
+    }
+
+    /** Encode 128 integers from {@code longs} into {@code out}, {@code longs} is left untouched. */
+    void encode(long[] longs, int bitsPerValue, DataOutput out) throws IOException {
+        encode(longs, bitsPerValue, out, tmp);
+    }
+
+    /** Like {@link #encode(long[], int, DataOutput)}, with {@code tmp}, of {@link #SCRATCH_SIZE} longs, as scratch. */
+    static void encode(long[] longs, int bitsPerValue, DataOutput out, long[] tmp) throws IOException {
+        if (bitsPerValue == 0) {
+            // All integers are 0, which takes no bytes at all
+            return;
+        }
         final int nextPrimitive;
         final int numLongs;
         if (bitsPerValue <= 8) {
             nextPrimitive = 8;
             numLongs = BLOCK_SIZE / 8;
-            collapse8(longs);
+            collapse8(longs, tmp);
         } else if (bitsPerValue <= 16) {
             nextPrimitive = 16;
             numLongs = BLOCK_SIZE / 4;
-            collapse16(longs);
+            collapse16(longs, tmp);
         } else {
             nextPrimitive = 32;
             numLongs = BLOCK_SIZE / 2;
-            collapse32(longs);
+            collapse32(longs, tmp);
         }
 
+        // The collapsed longs are packed in place: the packed long i only takes collapsed longs i and
+        // beyond, and collapsed long i is read before packed long i is first written.
         final int numLongsPerShift = bitsPerValue * 2;
         int idx = 0;
         int shift = nextPrimitive - bitsPerValue;
         for (int i = 0; i < numLongsPerShift; ++i) {
-            tmp[i] = longs[idx++] << shift;
+            tmp[i] = tmp[idx++] << shift;
         }
         for (shift = shift - bitsPerValue; shift >= 0; shift -= bitsPerValue) {
             for (int i = 0; i < numLongsPerShift; ++i) {
-                tmp[i] |= longs[idx++] << shift;
+                tmp[i] |= tmp[idx++] << shift;
             }
         }
 
@@ -184,7 +225,7 @@ final class ForUtil {
         while (idx < numLongs) {
             if (remainingBitsPerValue >= remainingBitsPerLong) {
                 remainingBitsPerValue -= remainingBitsPerLong;
-                tmp[tmpIdx++] |= (longs[idx] >>> remainingBitsPerValue) & maskRemainingBitsPerLong;
+                tmp[tmpIdx++] |= (tmp[idx] >>> remainingBitsPerValue) & maskRemainingBitsPerLong;
                 if (remainingBitsPerValue == 0) {
                     idx++;
                     remainingBitsPerValue = bitsPerValue;
@@ -201,17 +242,14 @@ final class ForUtil {
                     mask1 = MASKS32[remainingBitsPerValue];
                     mask2 = MASKS32[remainingBitsPerLong - remainingBitsPerValue];
                 }
-                tmp[tmpIdx] |= (longs[idx++] & mask1) << (remainingBitsPerLong - remainingBitsPerValue);
+                tmp[tmpIdx] |= (tmp[idx++] & mask1) << (remainingBitsPerLong - remainingBitsPerValue);
                 remainingBitsPerValue = bitsPerValue - remainingBitsPerLong + remainingBitsPerValue;
-                tmp[tmpIdx++] |= (longs[idx] >>> remainingBitsPerValue) & mask2;
+                tmp[tmpIdx++] |= (tmp[idx] >>> remainingBitsPerValue) & mask2;
             }
         }
 
-        // for (int i = 0; i < numLongsPerShift; ++i) {
-        //  out.writeLong(tmp[i]);
-        // }
         for (int i = 0; i < numLongsPerShift; ++i) {
-          out[i] = tmp[i];
+            out.writeLong(tmp[i]);
         }
     }
 
@@ -220,39 +258,6 @@ final class ForUtil {
         return bitsPerValue << (BLOCK_SIZE_LOG2 - 3);
     }
 
-    private static void decodeSlow(int bitsPerValue, long[] in, long[] tmp, long[] longs)
-            throws IOException {
-        final int numLongs = bitsPerValue << 1;
-        // in.readLongs(tmp, 0, numLongs);
-        System.arraycopy(in, 0, tmp, 0, numLongs);
-        final long mask = MASKS32[bitsPerValue];
-        int longsIdx = 0;
-        int shift = 32 - bitsPerValue;
-        for (; shift >= 0; shift -= bitsPerValue) {
-            shiftLongs(tmp, numLongs, longs, longsIdx, shift, mask);
-            longsIdx += numLongs;
-        }
-        final int remainingBitsPerLong = shift + bitsPerValue;
-        final long mask32RemainingBitsPerLong = MASKS32[remainingBitsPerLong];
-        int tmpIdx = 0;
-        int remainingBits = remainingBitsPerLong;
-        for (; longsIdx < BLOCK_SIZE / 2; ++longsIdx) {
-            int b = bitsPerValue - remainingBits;
-            long l = (tmp[tmpIdx++] & MASKS32[remainingBits]) << b;
-            while (b >= remainingBitsPerLong) {
-                b -= remainingBitsPerLong;
-                l |= (tmp[tmpIdx++] & mask32RemainingBitsPerLong) << b;
-            }
-            if (b > 0) {
-                l |= (tmp[tmpIdx] >>> (remainingBitsPerLong - b)) & MASKS32[b];
-                remainingBits = remainingBitsPerLong - b;
-            } else {
-                remainingBits = remainingBitsPerLong;
-            }
-            longs[longsIdx] = l;
-        }
-    }
-
     /**
      * The pattern that this shiftLongs method applies is recognized by the C2 compiler, which
      * generates SIMD instructions for it in order to shift multiple longs at once.
@@ -265,7 +270,8 @@ final class ForUtil {
 
     private static final long[] MASKS8 = new long[8];
     private static final long[] MASKS16 = new long[16];
-    private static final long[] MASKS32 = new long[32];
+    // 33 masks rather than 32, so that masks cover every width up to 32 bits per value
+    private static final long[] MASKS32 = new long[33];
 
     static {
         for (int i = 0; i < 8; ++i) {
@@ -274,7 +280,7 @@ final class ForUtil {
         for (int i = 0; i < 16; ++i) {
             MASKS16[i] = mask16(i);
         }
-        for (int i = 0; i < 32; ++i) {
+        for (int i = 0; i <= 32; ++i) {
             MASKS32[i] = mask32(i);
         }
     }
@@ -324,10 +330,70 @@ final class ForUtil {
     private static final long MASK32_22 = MASKS32[22];
     private static final long MASK32_23 = MASKS32[23];
     private static final long MASK32_24 = MASKS32[24];
+    private static final long MASK32_25 = MASKS32[25];
+    private static final long MASK32_26 = MASKS32[26];
+    private static final long MASK32_27 = MASKS32[27];
+    private static final long MASK32_28 = MASKS32[28];
+    private static final long MASK32_29 = MASKS32[29];
+    private static final long MASK32_30 = MASKS32[30];
+    private static final long MASK32_31 = MASKS32[31];
 
-    /** Decode 128 integers into {@code longs}. */
+    private final LongArrayDataInput longArrayInput = new LongArrayDataInput();
+
+    /** Decode 128 integers from the packed longs of {@code in} into {@code longs}. */
     void decode(int bitsPerValue, long[] in, long[] longs) throws IOException {
+        longArrayInput.reset(in);
+        decode(bitsPerValue, longArrayInput, longs);
+    }
+
+    /**
+     * Returns integer {@code index} of the 128 integers packed into {@code packed}, without decoding
+     * the block. The collapse pass puts integer {@code index} in the {@code index / (2 * p)}-th
+     * {@code p} bits field, from the top, of collapsed long {@code index % (2 * p)}, {@code p} being
+     * 8, 16 or 32. Each whole shift round then keeps the field at a fixed shift of a single packed
+     * long, while the remaining collapsed longs are spread over the low bits of the packed longs,
+     * high bits first, so that their integers are read piece by piece.
+     */
+    static long get(long[] packed, int bitsPerValue, int index) {
+        if (bitsPerValue == 0) {
+            return 0;
+        }
+        final int primitiveSize = bitsPerValue <= 8 ? 8 : bitsPerValue <= 16 ? 16 : 32;
+        final int numCollapsedLongs = primitiveSize << 1;
+        final int collapsedIdx = index & (numCollapsedLongs - 1);
+        final int fieldShift = 64 - primitiveSize * (1 + index / numCollapsedLongs);
+        final int numLongsPerShift = bitsPerValue << 1;
+        final int numShifts = primitiveSize / bitsPerValue;
+        if (collapsedIdx < numShifts * numLongsPerShift) {
+            final int round = collapsedIdx / numLongsPerShift;
+            final int shift = fieldShift + primitiveSize - bitsPerValue * (round + 1);
+            return (packed[collapsedIdx - round * numLongsPerShift] >>> shift) & ((1L << bitsPerValue) - 1);
+        }
+        final int remainingBitsPerLong = primitiveSize - numShifts * bitsPerValue;
+        int bitOffset = (collapsedIdx - numShifts * numLongsPerShift) * bitsPerValue;
+        long value = 0;
+        for (int remainingBitsPerValue = bitsPerValue; remainingBitsPerValue > 0; ) {
+            final int availableBits = remainingBitsPerLong - bitOffset % remainingBitsPerLong;
+            final int b = Math.min(remainingBitsPerValue, availableBits);
+            final long l = packed[bitOffset / remainingBitsPerLong] >>> (fieldShift + availableBits - b);
+            value = (value << b) | (l & ((1L << b) - 1));
+            remainingBitsPerValue -= b;
+            bitOffset += b;
+        }
+        return value;
+    }
+
+    /** Decode 128 integers into {@code longs}. */
+    void decode(int bitsPerValue, DataInput in, long[] longs) throws IOException {
+        decode(bitsPerValue, in, tmp, longs);
+    }
+
+    /** Like {@link #decode(int, DataInput, long[])}, with {@code tmp}, of {@link #SCRATCH_SIZE} longs, as scratch. */
+    static void decode(int bitsPerValue, DataInput in, long[] tmp, long[] longs) throws IOException {
         switch (bitsPerValue) {
+            case 0:
+                Arrays.fill(longs, 0, BLOCK_SIZE, 0L);
+                break;
             case 1:
                 decode1(in, tmp, longs);
                 expand8(longs);
@@ -424,21 +490,65 @@ final class ForUtil {
                 decode24(in, tmp, longs);
                 expand32(longs);
                 break;
-            default:
-                decodeSlow(bitsPerValue, in, tmp, longs);
+            case 25:
+                decode25(in, tmp, longs);
+                expand32(longs);
+                break;
+            case 26:
+                decode26(in, tmp, longs);
+                expand32(longs);
+                break;
+            case 27:
+                decode27(in, tmp, longs);
+                expand32(longs);
+                break;
+            case 28:
+                decode28(in, tmp, longs);
+                expand32(longs);
+                break;
+            case 29:
+                decode29(in, tmp, longs);
+                expand32(longs);
+                break;
+            case 30:
+                decode30(in, tmp, longs);
+                expand32(longs);
+                break;
+            case 31:
+                decode31(in, tmp, longs);
                 expand32(longs);
                 break;
+            case 32:
+                decode32(in, tmp, longs);
+                expand32(longs);
+                break;
+            default:
+                throw new UnsupportedOperationException("bitsPerValue=" + bitsPerValue);
         }
     }
 
+    /** Like {@link #decodeTo32(int, DataInput, long[])}, from the packed longs of {@code in}. */
+    void decodeTo32(int bitsPerValue, long[] in, long[] longs) throws IOException {
+        longArrayInput.reset(in);
+        decodeTo32(bitsPerValue, longArrayInput, longs);
+    }
+
     /**
      * Decodes 128 integers into 64 {@code longs} such that each long contains two values, each
      * represented with 32 bits. Values [0..63] are encoded in the high-order bits of {@code longs}
      * [0..63], and values [64..127] are encoded in the low-order bits of {@code longs} [0..63]. This
      * representation may allow subsequent operations to be performed on two values at a time.
      */
-    void decodeTo32(int bitsPerValue, long[] in, long[] longs) throws IOException {
+    void decodeTo32(int bitsPerValue, DataInput in, long[] longs) throws IOException {
+        decodeTo32(bitsPerValue, in, tmp, longs);
+    }
+
+    /** Like {@link #decodeTo32(int, DataInput, long[])}, with {@code tmp}, of {@link #SCRATCH_SIZE} longs, as scratch. */
+    static void decodeTo32(int bitsPerValue, DataInput in, long[] tmp, long[] longs) throws IOException {
         switch (bitsPerValue) {
+            case 0:
+                Arrays.fill(longs, 0, BLOCK_SIZE / 2, 0L);
+                break;
             case 1:
                 decode1(in, tmp, longs);
                 expand8To32(longs);
@@ -527,15 +637,253 @@ final class ForUtil {
             case 24:
                 decode24(in, tmp, longs);
                 break;
-            default:
-                decodeSlow(bitsPerValue, in, tmp, longs);
+            case 25:
+                decode25(in, tmp, longs);
+                break;
+            case 26:
+                decode26(in, tmp, longs);
+                break;
+            case 27:
+                decode27(in, tmp, longs);
+                break;
+            case 28:
+                decode28(in, tmp, longs);
+                break;
+            case 29:
+                decode29(in, tmp, longs);
                 break;
+            case 30:
+                decode30(in, tmp, longs);
+                break;
+            case 31:
+                decode31(in, tmp, longs);
+                break;
+            case 32:
+                decode32(in, tmp, longs);
+                break;
+            default:
+                throw new UnsupportedOperationException("bitsPerValue=" + bitsPerValue);
+        }
+    }
+
+    // The aggregations leave the integers collapsed, 8, 4 or 2 per long, as decodeN leave them, which
+    // skips the expand pass and the stores of 128 longs. For min, max and count, the collapsed longs
+    // are read as vectors of bytes, shorts or ints, one integer per lane, whose order doesn't matter to
+    // an aggregation. Lanes are compared as unsigned, by flipping their sign bit.
+
+    /**
+     * Returns {@code sum} plus the sum of the 128 integers of the block read from {@code in}, with
+     * {@code tmp} and {@code longs}, both of {@link #SCRATCH_SIZE} longs, as scratch. Passing the sum
+     * of the previous blocks in sums many blocks into one accumulator.
+     */
+    static long sum(int bitsPerValue, DataInput in, long[] tmp, long[] longs, long sum) throws IOException {
+        final int primitiveSize = decodeCollapsed(bitsPerValue, in, tmp, longs);
+        // Neighbour integers are added up into fields of twice their size, which don't overflow
+        final long mask = primitiveSize == 8 ? 0x00FF00FF00FF00FFL : primitiveSize == 16 ? 0x0000FFFF0000FFFFL : 0xFFFFFFFFL;
+        LongVector acc = LongVector.zero(LONG_SPECIES);
+        for (int i = 0; i < primitiveSize * 2; i += LONG_LANES) {
+            final LongVector l = LongVector.fromArray(LONG_SPECIES, longs, i);
+            acc = acc.add(l.and(mask)).add(l.lanewise(VectorOperators.LSHR, primitiveSize).and(mask));
+        }
+        long l = acc.reduceLanes(VectorOperators.ADD);
+        if (primitiveSize == 8) {
+            l = (l & 0x0000FFFF0000FFFFL) + ((l >>> 16) & 0x0000FFFF0000FFFFL);
+        }
+        if (primitiveSize <= 16) {
+            l = (l & 0xFFFFFFFFL) + (l >>> 32);
+        }
+        return sum + l;
+    }
+
+    /** Like {@link #sum}, but returns the minimum of {@code min} and of the 128 integers. */
+    static long min(int bitsPerValue, DataInput in, long[] tmp, long[] longs, long min) throws IOException {
+        return Math.min(min, reduceCollapsed(decodeCollapsed(bitsPerValue, in, tmp, longs), longs, VectorOperators.MIN));
+    }
+
+    /** Like {@link #sum}, but returns the maximum of {@code max} and of the 128 integers. */
+    static long max(int bitsPerValue, DataInput in, long[] tmp, long[] longs, long max) throws IOException {
+        return Math.max(max, reduceCollapsed(decodeCollapsed(bitsPerValue, in, tmp, longs), longs, VectorOperators.MAX));
+    }
+
+    /**
+     * Like {@link #sum}, but returns {@code count} plus the number of the 128 integers that are between
+     * {@code from} and {@code to}, both included.
+     */
+    static int count(int bitsPerValue, DataInput in, long[] tmp, long[] longs, long from, long to, int count)
+            throws IOException {
+        final int primitiveSize = decodeCollapsed(bitsPerValue, in, tmp, longs);
+        final long maxValue = (1L << primitiveSize) - 1;
+        if (from > to || from > maxValue || to < 0) {
+            return count;
         }
+        from = Math.max(from, 0);
+        to = Math.min(to, maxValue);
+        if (primitiveSize == 8) {
+            final byte lo = (byte) (from ^ 0x80), hi = (byte) (to ^ 0x80);
+            for (int i = 0; i < 16; i += LONG_LANES) {
+                final ByteVector b = LongVector.fromArray(LONG_SPECIES, longs, i).reinterpretAsBytes()
+                        .lanewise(VectorOperators.XOR, Byte.MIN_VALUE);
+                count += b.compare(VectorOperators.GE, lo).and(b.compare(VectorOperators.LE, hi)).trueCount();
+            }
+        } else if (primitiveSize == 16) {
+            final short lo = (short) (from ^ 0x8000), hi = (short) (to ^ 0x8000);
+            for (int i = 0; i < 32; i += LONG_LANES) {
+                final ShortVector s = LongVector.fromArray(LONG_SPECIES, longs, i).reinterpretAsShorts()
+                        .lanewise(VectorOperators.XOR, Short.MIN_VALUE);
+                count += s.compare(VectorOperators.GE, lo).and(s.compare(VectorOperators.LE, hi)).trueCount();
+            }
+        } else {
+            final int lo = (int) (from ^ 0x80000000L), hi = (int) (to ^ 0x80000000L);
+            for (int i = 0; i < 64; i += LONG_LANES) {
+                final IntVector v = LongVector.fromArray(LONG_SPECIES, longs, i).reinterpretAsInts()
+                        .lanewise(VectorOperators.XOR, Integer.MIN_VALUE);
+                count += v.compare(VectorOperators.GE, lo).and(v.compare(VectorOperators.LE, hi)).trueCount();
+            }
+        }
+        return count;
     }
 
-    private static void decode1(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 2);
-        tmp = in;
+    /** Reduces the collapsed integers of {@code longs} with {@code op}, MIN or MAX. */
+    private static long reduceCollapsed(int primitiveSize, long[] longs, VectorOperators.Associative op) {
+        if (primitiveSize == 8) {
+            ByteVector acc = LongVector.fromArray(LONG_SPECIES, longs, 0).reinterpretAsBytes()
+                    .lanewise(VectorOperators.XOR, Byte.MIN_VALUE);
+            for (int i = LONG_LANES; i < 16; i += LONG_LANES) {
+                acc = acc.lanewise(op, LongVector.fromArray(LONG_SPECIES, longs, i).reinterpretAsBytes()
+                        .lanewise(VectorOperators.XOR, Byte.MIN_VALUE));
+            }
+            return (acc.reduceLanes(op) ^ Byte.MIN_VALUE) & 0xFFL;
+        } else if (primitiveSize == 16) {
+            ShortVector acc = LongVector.fromArray(LONG_SPECIES, longs, 0).reinterpretAsShorts()
+                    .lanewise(VectorOperators.XOR, Short.MIN_VALUE);
+            for (int i = LONG_LANES; i < 32; i += LONG_LANES) {
+                acc = acc.lanewise(op, LongVector.fromArray(LONG_SPECIES, longs, i).reinterpretAsShorts()
+                        .lanewise(VectorOperators.XOR, Short.MIN_VALUE));
+            }
+            return (acc.reduceLanes(op) ^ Short.MIN_VALUE) & 0xFFFFL;
+        } else {
+            IntVector acc = LongVector.fromArray(LONG_SPECIES, longs, 0).reinterpretAsInts()
+                    .lanewise(VectorOperators.XOR, Integer.MIN_VALUE);
+            for (int i = LONG_LANES; i < 64; i += LONG_LANES) {
+                acc = acc.lanewise(op, LongVector.fromArray(LONG_SPECIES, longs, i).reinterpretAsInts()
+                        .lanewise(VectorOperators.XOR, Integer.MIN_VALUE));
+            }
+            return (acc.reduceLanes(op) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        }
+    }
+
+    /**
+     * Decodes the block without the expand pass, into the first {@code 2 * p} longs of {@code longs},
+     * {@code 64 / p} integers per long, and returns {@code p}, 8, 16 or 32.
+     */
+    private static int decodeCollapsed(int bitsPerValue, DataInput in, long[] tmp, long[] longs) throws IOException {
+        switch (bitsPerValue) {
+            case 0:
+                Arrays.fill(longs, 0, BLOCK_SIZE / 8, 0L);
+                return 8;
+            case 1:
+                decode1(in, tmp, longs);
+                return 8;
+            case 2:
+                decode2(in, tmp, longs);
+                return 8;
+            case 3:
+                decode3(in, tmp, longs);
+                return 8;
+            case 4:
+                decode4(in, tmp, longs);
+                return 8;
+            case 5:
+                decode5(in, tmp, longs);
+                return 8;
+            case 6:
+                decode6(in, tmp, longs);
+                return 8;
+            case 7:
+                decode7(in, tmp, longs);
+                return 8;
+            case 8:
+                decode8(in, tmp, longs);
+                return 8;
+            case 9:
+                decode9(in, tmp, longs);
+                return 16;
+            case 10:
+                decode10(in, tmp, longs);
+                return 16;
+            case 11:
+                decode11(in, tmp, longs);
+                return 16;
+            case 12:
+                decode12(in, tmp, longs);
+                return 16;
+            case 13:
+                decode13(in, tmp, longs);
+                return 16;
+            case 14:
+                decode14(in, tmp, longs);
+                return 16;
+            case 15:
+                decode15(in, tmp, longs);
+                return 16;
+            case 16:
+                decode16(in, tmp, longs);
+                return 16;
+            case 17:
+                decode17(in, tmp, longs);
+                return 32;
+            case 18:
+                decode18(in, tmp, longs);
+                return 32;
+            case 19:
+                decode19(in, tmp, longs);
+                return 32;
+            case 20:
+                decode20(in, tmp, longs);
+                return 32;
+            case 21:
+                decode21(in, tmp, longs);
+                return 32;
+            case 22:
+                decode22(in, tmp, longs);
+                return 32;
+            case 23:
+                decode23(in, tmp, longs);
+                return 32;
+            case 24:
+                decode24(in, tmp, longs);
+                return 32;
+            case 25:
+                decode25(in, tmp, longs);
+                return 32;
+            case 26:
+                decode26(in, tmp, longs);
+                return 32;
+            case 27:
+                decode27(in, tmp, longs);
+                return 32;
+            case 28:
+                decode28(in, tmp, longs);
+                return 32;
+            case 29:
+                decode29(in, tmp, longs);
+                return 32;
+            case 30:
+                decode30(in, tmp, longs);
+                return 32;
+            case 31:
+                decode31(in, tmp, longs);
+                return 32;
+            case 32:
+                decode32(in, tmp, longs);
+                return 32;
+            default:
+                throw new UnsupportedOperationException("bitsPerValue=" + bitsPerValue);
+        }
+    }
+
+    private static void decode1(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 2);
         shiftLongs(tmp, 2, longs, 0, 7, MASK8_1);
         shiftLongs(tmp, 2, longs, 2, 6, MASK8_1);
         shiftLongs(tmp, 2, longs, 4, 5, MASK8_1);
@@ -546,18 +894,16 @@ final class ForUtil {
         shiftLongs(tmp, 2, longs, 14, 0, MASK8_1);
     }
 
-    private static void decode2(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 4);
-        tmp = in;
+    private static void decode2(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 4);
         shiftLongs(tmp, 4, longs, 0, 6, MASK8_2);
         shiftLongs(tmp, 4, longs, 4, 4, MASK8_2);
         shiftLongs(tmp, 4, longs, 8, 2, MASK8_2);
         shiftLongs(tmp, 4, longs, 12, 0, MASK8_2);
     }
 
-    private static void decode3(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 6);
-        tmp = in;
+    private static void decode3(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 6);
         shiftLongs(tmp, 6, longs, 0, 5, MASK8_3);
         shiftLongs(tmp, 6, longs, 6, 2, MASK8_3);
         for (int iter = 0, tmpIdx = 0, longsIdx = 12; iter < 2; ++iter, tmpIdx += 3, longsIdx += 2) {
@@ -570,16 +916,14 @@ final class ForUtil {
         }
     }
 
-    private static void decode4(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 8);
-        tmp = in;
+    private static void decode4(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 8);
         shiftLongs(tmp, 8, longs, 0, 4, MASK8_4);
         shiftLongs(tmp, 8, longs, 8, 0, MASK8_4);
     }
 
-    private static void decode5(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 10);
-        tmp = in;
+    private static void decode5(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 10);
         shiftLongs(tmp, 10, longs, 0, 3, MASK8_5);
         for (int iter = 0, tmpIdx = 0, longsIdx = 10; iter < 2; ++iter, tmpIdx += 5, longsIdx += 3) {
             long l0 = (tmp[tmpIdx + 0] & MASK8_3) << 2;
@@ -595,9 +939,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode6(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 12);
-        tmp = in;
+    private static void decode6(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 12);
         shiftLongs(tmp, 12, longs, 0, 2, MASK8_6);
         shiftLongs(tmp, 12, tmp, 0, 0, MASK8_2);
         for (int iter = 0, tmpIdx = 0, longsIdx = 12; iter < 4; ++iter, tmpIdx += 3, longsIdx += 1) {
@@ -608,9 +951,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode7(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 14);
-        tmp = in;
+    private static void decode7(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 14);
         shiftLongs(tmp, 14, longs, 0, 1, MASK8_7);
         shiftLongs(tmp, 14, tmp, 0, 0, MASK8_1);
         for (int iter = 0, tmpIdx = 0, longsIdx = 14; iter < 2; ++iter, tmpIdx += 7, longsIdx += 1) {
@@ -625,14 +967,12 @@ final class ForUtil {
         }
     }
 
-    private static void decode8(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(longs, 0, 16);
-        tmp = in;
+    private static void decode8(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(longs, 0, 16);
     }
 
-    private static void decode9(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 18);
-        tmp = in;
+    private static void decode9(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 18);
         shiftLongs(tmp, 18, longs, 0, 7, MASK16_9);
         for (int iter = 0, tmpIdx = 0, longsIdx = 18; iter < 2; ++iter, tmpIdx += 9, longsIdx += 7) {
             long l0 = (tmp[tmpIdx + 0] & MASK16_7) << 2;
@@ -660,9 +1000,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode10(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 20);
-        tmp = in;
+    private static void decode10(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 20);
         shiftLongs(tmp, 20, longs, 0, 6, MASK16_10);
         for (int iter = 0, tmpIdx = 0, longsIdx = 20; iter < 4; ++iter, tmpIdx += 5, longsIdx += 3) {
             long l0 = (tmp[tmpIdx + 0] & MASK16_6) << 4;
@@ -678,9 +1017,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode11(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 22);
-        tmp = in;
+    private static void decode11(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 22);
         shiftLongs(tmp, 22, longs, 0, 5, MASK16_11);
         for (int iter = 0, tmpIdx = 0, longsIdx = 22; iter < 2; ++iter, tmpIdx += 11, longsIdx += 5) {
             long l0 = (tmp[tmpIdx + 0] & MASK16_5) << 6;
@@ -706,9 +1044,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode12(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 24);
-        tmp = in;
+    private static void decode12(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 24);
         shiftLongs(tmp, 24, longs, 0, 4, MASK16_12);
         shiftLongs(tmp, 24, tmp, 0, 0, MASK16_4);
         for (int iter = 0, tmpIdx = 0, longsIdx = 24; iter < 8; ++iter, tmpIdx += 3, longsIdx += 1) {
@@ -719,9 +1056,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode13(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 26);
-        tmp = in;
+    private static void decode13(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 26);
         shiftLongs(tmp, 26, longs, 0, 3, MASK16_13);
         for (int iter = 0, tmpIdx = 0, longsIdx = 26; iter < 2; ++iter, tmpIdx += 13, longsIdx += 3) {
             long l0 = (tmp[tmpIdx + 0] & MASK16_3) << 10;
@@ -745,9 +1081,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode14(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 28);
-        tmp = in;
+    private static void decode14(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 28);
         shiftLongs(tmp, 28, longs, 0, 2, MASK16_14);
         shiftLongs(tmp, 28, tmp, 0, 0, MASK16_2);
         for (int iter = 0, tmpIdx = 0, longsIdx = 28; iter < 4; ++iter, tmpIdx += 7, longsIdx += 1) {
@@ -762,9 +1097,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode15(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 30);
-        tmp = in;
+    private static void decode15(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 30);
         shiftLongs(tmp, 30, longs, 0, 1, MASK16_15);
         shiftLongs(tmp, 30, tmp, 0, 0, MASK16_1);
         for (int iter = 0, tmpIdx = 0, longsIdx = 30; iter < 2; ++iter, tmpIdx += 15, longsIdx += 1) {
@@ -787,14 +1121,12 @@ final class ForUtil {
         }
     }
 
-    private static void decode16(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(longs, 0, 32);
-        tmp = in;
+    private static void decode16(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(longs, 0, 32);
     }
 
-    private static void decode17(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 34);
-        tmp = in;
+    private static void decode17(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 34);
         shiftLongs(tmp, 34, longs, 0, 15, MASK32_17);
         for (int iter = 0, tmpIdx = 0, longsIdx = 34; iter < 2; ++iter, tmpIdx += 17, longsIdx += 15) {
             long l0 = (tmp[tmpIdx + 0] & MASK32_15) << 2;
@@ -846,9 +1178,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode18(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 36);
-        tmp = in;
+    private static void decode18(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 36);
         shiftLongs(tmp, 36, longs, 0, 14, MASK32_18);
         for (int iter = 0, tmpIdx = 0, longsIdx = 36; iter < 4; ++iter, tmpIdx += 9, longsIdx += 7) {
             long l0 = (tmp[tmpIdx + 0] & MASK32_14) << 4;
@@ -876,9 +1207,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode19(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 38);
-        tmp = in;
+    private static void decode19(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 38);
         shiftLongs(tmp, 38, longs, 0, 13, MASK32_19);
         for (int iter = 0, tmpIdx = 0, longsIdx = 38; iter < 2; ++iter, tmpIdx += 19, longsIdx += 13) {
             long l0 = (tmp[tmpIdx + 0] & MASK32_13) << 6;
@@ -928,9 +1258,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode20(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 40);
-        tmp = in;
+    private static void decode20(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 40);
         shiftLongs(tmp, 40, longs, 0, 12, MASK32_20);
         for (int iter = 0, tmpIdx = 0, longsIdx = 40; iter < 8; ++iter, tmpIdx += 5, longsIdx += 3) {
             long l0 = (tmp[tmpIdx + 0] & MASK32_12) << 8;
@@ -946,9 +1275,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode21(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 42);
-        tmp = in;
+    private static void decode21(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 42);
         shiftLongs(tmp, 42, longs, 0, 11, MASK32_21);
         for (int iter = 0, tmpIdx = 0, longsIdx = 42; iter < 2; ++iter, tmpIdx += 21, longsIdx += 11) {
             long l0 = (tmp[tmpIdx + 0] & MASK32_11) << 10;
@@ -996,9 +1324,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode22(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 44);
-        tmp = in;
+    private static void decode22(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 44);
         shiftLongs(tmp, 44, longs, 0, 10, MASK32_22);
         for (int iter = 0, tmpIdx = 0, longsIdx = 44; iter < 4; ++iter, tmpIdx += 11, longsIdx += 5) {
             long l0 = (tmp[tmpIdx + 0] & MASK32_10) << 12;
@@ -1024,9 +1351,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode23(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 46);
-        tmp = in;
+    private static void decode23(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 46);
         shiftLongs(tmp, 46, longs, 0, 9, MASK32_23);
         for (int iter = 0, tmpIdx = 0, longsIdx = 46; iter < 2; ++iter, tmpIdx += 23, longsIdx += 9) {
             long l0 = (tmp[tmpIdx + 0] & MASK32_9) << 14;
@@ -1072,9 +1398,8 @@ final class ForUtil {
         }
     }
 
-    private static void decode24(long[] in, long[] tmp, long[] longs) throws IOException {
-        //in.readLongs(tmp, 0, 48);
-        tmp = in;
+    private static void decode24(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 48);
         shiftLongs(tmp, 48, longs, 0, 8, MASK32_24);
         shiftLongs(tmp, 48, tmp, 0, 0, MASK32_8);
         for (int iter = 0, tmpIdx = 0, longsIdx = 48; iter < 16; ++iter, tmpIdx += 3, longsIdx += 1) {
@@ -1084,4 +1409,316 @@ final class ForUtil {
             longs[longsIdx + 0] = l0;
         }
     }
+
+    private static void decode25(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 50);
+        shiftLongs(tmp, 50, longs, 0, 7, MASK32_25);
+        for (int iter = 0, tmpIdx = 0, longsIdx = 50; iter < 2; ++iter, tmpIdx += 25, longsIdx += 7) {
+            long l0 = (tmp[tmpIdx + 0] & MASK32_7) << 18;
+            l0 |= (tmp[tmpIdx + 1] & MASK32_7) << 11;
+            l0 |= (tmp[tmpIdx + 2] & MASK32_7) << 4;
+            l0 |= (tmp[tmpIdx + 3] >>> 3) & MASK32_4;
+            longs[longsIdx + 0] = l0;
+            long l1 = (tmp[tmpIdx + 3] & MASK32_3) << 22;
+            l1 |= (tmp[tmpIdx + 4] & MASK32_7) << 15;
+            l1 |= (tmp[tmpIdx + 5] & MASK32_7) << 8;
+            l1 |= (tmp[tmpIdx + 6] & MASK32_7) << 1;
+            l1 |= (tmp[tmpIdx + 7] >>> 6) & MASK32_1;
+            longs[longsIdx + 1] = l1;
+            long l2 = (tmp[tmpIdx + 7] & MASK32_6) << 19;
+            l2 |= (tmp[tmpIdx + 8] & MASK32_7) << 12;
+            l2 |= (tmp[tmpIdx + 9] & MASK32_7) << 5;
+            l2 |= (tmp[tmpIdx + 10] >>> 2) & MASK32_5;
+            longs[longsIdx + 2] = l2;
+            long l3 = (tmp[tmpIdx + 10] & MASK32_2) << 23;
+            l3 |= (tmp[tmpIdx + 11] & MASK32_7) << 16;
+            l3 |= (tmp[tmpIdx + 12] & MASK32_7) << 9;
+            l3 |= (tmp[tmpIdx + 13] & MASK32_7) << 2;
+            l3 |= (tmp[tmpIdx + 14] >>> 5) & MASK32_2;
+            longs[longsIdx + 3] = l3;
+            long l4 = (tmp[tmpIdx + 14] & MASK32_5) << 20;
+            l4 |= (tmp[tmpIdx + 15] & MASK32_7) << 13;
+            l4 |= (tmp[tmpIdx + 16] & MASK32_7) << 6;
+            l4 |= (tmp[tmpIdx + 17] >>> 1) & MASK32_6;
+            longs[longsIdx + 4] = l4;
+            long l5 = (tmp[tmpIdx + 17] & MASK32_1) << 24;
+            l5 |= (tmp[tmpIdx + 18] & MASK32_7) << 17;
+            l5 |= (tmp[tmpIdx + 19] & MASK32_7) << 10;
+            l5 |= (tmp[tmpIdx + 20] & MASK32_7) << 3;
+            l5 |= (tmp[tmpIdx + 21] >>> 4) & MASK32_3;
+            longs[longsIdx + 5] = l5;
+            long l6 = (tmp[tmpIdx + 21] & MASK32_4) << 21;
+            l6 |= (tmp[tmpIdx + 22] & MASK32_7) << 14;
+            l6 |= (tmp[tmpIdx + 23] & MASK32_7) << 7;
+            l6 |= (tmp[tmpIdx + 24] & MASK32_7) << 0;
+            longs[longsIdx + 6] = l6;
+        }
+    }
+
+    private static void decode26(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 52);
+        shiftLongs(tmp, 52, longs, 0, 6, MASK32_26);
+        for (int iter = 0, tmpIdx = 0, longsIdx = 52; iter < 4; ++iter, tmpIdx += 13, longsIdx += 3) {
+            long l0 = (tmp[tmpIdx + 0] & MASK32_6) << 20;
+            l0 |= (tmp[tmpIdx + 1] & MASK32_6) << 14;
+            l0 |= (tmp[tmpIdx + 2] & MASK32_6) << 8;
+            l0 |= (tmp[tmpIdx + 3] & MASK32_6) << 2;
+            l0 |= (tmp[tmpIdx + 4] >>> 4) & MASK32_2;
+            longs[longsIdx + 0] = l0;
+            long l1 = (tmp[tmpIdx + 4] & MASK32_4) << 22;
+            l1 |= (tmp[tmpIdx + 5] & MASK32_6) << 16;
+            l1 |= (tmp[tmpIdx + 6] & MASK32_6) << 10;
+            l1 |= (tmp[tmpIdx + 7] & MASK32_6) << 4;
+            l1 |= (tmp[tmpIdx + 8] >>> 2) & MASK32_4;
+            longs[longsIdx + 1] = l1;
+            long l2 = (tmp[tmpIdx + 8] & MASK32_2) << 24;
+            l2 |= (tmp[tmpIdx + 9] & MASK32_6) << 18;
+            l2 |= (tmp[tmpIdx + 10] & MASK32_6) << 12;
+            l2 |= (tmp[tmpIdx + 11] & MASK32_6) << 6;
+            l2 |= (tmp[tmpIdx + 12] & MASK32_6) << 0;
+            longs[longsIdx + 2] = l2;
+        }
+    }
+
+    private static void decode27(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 54);
+        shiftLongs(tmp, 54, longs, 0, 5, MASK32_27);
+        for (int iter = 0, tmpIdx = 0, longsIdx = 54; iter < 2; ++iter, tmpIdx += 27, longsIdx += 5) {
+            long l0 = (tmp[tmpIdx + 0] & MASK32_5) << 22;
+            l0 |= (tmp[tmpIdx + 1] & MASK32_5) << 17;
+            l0 |= (tmp[tmpIdx + 2] & MASK32_5) << 12;
+            l0 |= (tmp[tmpIdx + 3] & MASK32_5) << 7;
+            l0 |= (tmp[tmpIdx + 4] & MASK32_5) << 2;
+            l0 |= (tmp[tmpIdx + 5] >>> 3) & MASK32_2;
+            longs[longsIdx + 0] = l0;
+            long l1 = (tmp[tmpIdx + 5] & MASK32_3) << 24;
+            l1 |= (tmp[tmpIdx + 6] & MASK32_5) << 19;
+            l1 |= (tmp[tmpIdx + 7] & MASK32_5) << 14;
+            l1 |= (tmp[tmpIdx + 8] & MASK32_5) << 9;
+            l1 |= (tmp[tmpIdx + 9] & MASK32_5) << 4;
+            l1 |= (tmp[tmpIdx + 10] >>> 1) & MASK32_4;
+            longs[longsIdx + 1] = l1;
+            long l2 = (tmp[tmpIdx + 10] & MASK32_1) << 26;
+            l2 |= (tmp[tmpIdx + 11] & MASK32_5) << 21;
+            l2 |= (tmp[tmpIdx + 12] & MASK32_5) << 16;
+            l2 |= (tmp[tmpIdx + 13] & MASK32_5) << 11;
+            l2 |= (tmp[tmpIdx + 14] & MASK32_5) << 6;
+            l2 |= (tmp[tmpIdx + 15] & MASK32_5) << 1;
+            l2 |= (tmp[tmpIdx + 16] >>> 4) & MASK32_1;
+            longs[longsIdx + 2] = l2;
+            long l3 = (tmp[tmpIdx + 16] & MASK32_4) << 23;
+            l3 |= (tmp[tmpIdx + 17] & MASK32_5) << 18;
+            l3 |= (tmp[tmpIdx + 18] & MASK32_5) << 13;
+            l3 |= (tmp[tmpIdx + 19] & MASK32_5) << 8;
+            l3 |= (tmp[tmpIdx + 20] & MASK32_5) << 3;
+            l3 |= (tmp[tmpIdx + 21] >>> 2) & MASK32_3;
+            longs[longsIdx + 3] = l3;
+            long l4 = (tmp[tmpIdx + 21] & MASK32_2) << 25;
+            l4 |= (tmp[tmpIdx + 22] & MASK32_5) << 20;
+            l4 |= (tmp[tmpIdx + 23] & MASK32_5) << 15;
+            l4 |= (tmp[tmpIdx + 24] & MASK32_5) << 10;
+            l4 |= (tmp[tmpIdx + 25] & MASK32_5) << 5;
+            l4 |= (tmp[tmpIdx + 26] & MASK32_5) << 0;
+            longs[longsIdx + 4] = l4;
+        }
+    }
+
+    private static void decode28(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 56);
+        shiftLongs(tmp, 56, longs, 0, 4, MASK32_28);
+        shiftLongs(tmp, 56, tmp, 0, 0, MASK32_4);
+        for (int iter = 0, tmpIdx = 0, longsIdx = 56; iter < 8; ++iter, tmpIdx += 7, longsIdx += 1) {
+            long l0 = tmp[tmpIdx + 0] << 24;
+            l0 |= tmp[tmpIdx + 1] << 20;
+            l0 |= tmp[tmpIdx + 2] << 16;
+            l0 |= tmp[tmpIdx + 3] << 12;
+            l0 |= tmp[tmpIdx + 4] << 8;
+            l0 |= tmp[tmpIdx + 5] << 4;
+            l0 |= tmp[tmpIdx + 6] << 0;
+            longs[longsIdx + 0] = l0;
+        }
+    }
+
+    private static void decode29(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 58);
+        shiftLongs(tmp, 58, longs, 0, 3, MASK32_29);
+        for (int iter = 0, tmpIdx = 0, longsIdx = 58; iter < 2; ++iter, tmpIdx += 29, longsIdx += 3) {
+            long l0 = (tmp[tmpIdx + 0] & MASK32_3) << 26;
+            l0 |= (tmp[tmpIdx + 1] & MASK32_3) << 23;
+            l0 |= (tmp[tmpIdx + 2] & MASK32_3) << 20;
+            l0 |= (tmp[tmpIdx + 3] & MASK32_3) << 17;
+            l0 |= (tmp[tmpIdx + 4] & MASK32_3) << 14;
+            l0 |= (tmp[tmpIdx + 5] & MASK32_3) << 11;
+            l0 |= (tmp[tmpIdx + 6] & MASK32_3) << 8;
+            l0 |= (tmp[tmpIdx + 7] & MASK32_3) << 5;
+            l0 |= (tmp[tmpIdx + 8] & MASK32_3) << 2;
+            l0 |= (tmp[tmpIdx + 9] >>> 1) & MASK32_2;
+            longs[longsIdx + 0] = l0;
+            long l1 = (tmp[tmpIdx + 9] & MASK32_1) << 28;
+            l1 |= (tmp[tmpIdx + 10] & MASK32_3) << 25;
+            l1 |= (tmp[tmpIdx + 11] & MASK32_3) << 22;
+            l1 |= (tmp[tmpIdx + 12] & MASK32_3) << 19;
+            l1 |= (tmp[tmpIdx + 13] & MASK32_3) << 16;
+            l1 |= (tmp[tmpIdx + 14] & MASK32_3) << 13;
+            l1 |= (tmp[tmpIdx + 15] & MASK32_3) << 10;
+            l1 |= (tmp[tmpIdx + 16] & MASK32_3) << 7;
+            l1 |= (tmp[tmpIdx + 17] & MASK32_3) << 4;
+            l1 |= (tmp[tmpIdx + 18] & MASK32_3) << 1;
+            l1 |= (tmp[tmpIdx + 19] >>> 2) & MASK32_1;
+            longs[longsIdx + 1] = l1;
+            long l2 = (tmp[tmpIdx + 19] & MASK32_2) << 27;
+            l2 |= (tmp[tmpIdx + 20] & MASK32_3) << 24;
+            l2 |= (tmp[tmpIdx + 21] & MASK32_3) << 21;
+            l2 |= (tmp[tmpIdx + 22] & MASK32_3) << 18;
+            l2 |= (tmp[tmpIdx + 23] & MASK32_3) << 15;
+            l2 |= (tmp[tmpIdx + 24] & MASK32_3) << 12;
+            l2 |= (tmp[tmpIdx + 25] & MASK32_3) << 9;
+            l2 |= (tmp[tmpIdx + 26] & MASK32_3) << 6;
+            l2 |= (tmp[tmpIdx + 27] & MASK32_3) << 3;
+            l2 |= (tmp[tmpIdx + 28] & MASK32_3) << 0;
+            longs[longsIdx + 2] = l2;
+        }
+    }
+
+    private static void decode30(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 60);
+        shiftLongs(tmp, 60, longs, 0, 2, MASK32_30);
+        shiftLongs(tmp, 60, tmp, 0, 0, MASK32_2);
+        for (int iter = 0, tmpIdx = 0, longsIdx = 60; iter < 4; ++iter, tmpIdx += 15, longsIdx += 1) {
+            long l0 = tmp[tmpIdx + 0] << 28;
+            l0 |= tmp[tmpIdx + 1] << 26;
+            l0 |= tmp[tmpIdx + 2] << 24;
+            l0 |= tmp[tmpIdx + 3] << 22;
+            l0 |= tmp[tmpIdx + 4] << 20;
+            l0 |= tmp[tmpIdx + 5] << 18;
+            l0 |= tmp[tmpIdx + 6] << 16;
+            l0 |= tmp[tmpIdx + 7] << 14;
+            l0 |= tmp[tmpIdx + 8] << 12;
+            l0 |= tmp[tmpIdx + 9] << 10;
+            l0 |= tmp[tmpIdx + 10] << 8;
+            l0 |= tmp[tmpIdx + 11] << 6;
+            l0 |= tmp[tmpIdx + 12] << 4;
+            l0 |= tmp[tmpIdx + 13] << 2;
+            l0 |= tmp[tmpIdx + 14] << 0;
+            longs[longsIdx + 0] = l0;
+        }
+    }
+
+    private static void decode31(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(tmp, 0, 62);
+        shiftLongs(tmp, 62, longs, 0, 1, MASK32_31);
+        shiftLongs(tmp, 62, tmp, 0, 0, MASK32_1);
+        for (int iter = 0, tmpIdx = 0, longsIdx = 62; iter < 2; ++iter, tmpIdx += 31, longsIdx += 1) {
+            long l0 = tmp[tmpIdx + 0] << 30;
+            l0 |= tmp[tmpIdx + 1] << 29;
+            l0 |= tmp[tmpIdx + 2] << 28;
+            l0 |= tmp[tmpIdx + 3] << 27;
+            l0 |= tmp[tmpIdx + 4] << 26;
+            l0 |= tmp[tmpIdx + 5] << 25;
+            l0 |= tmp[tmpIdx + 6] << 24;
+            l0 |= tmp[tmpIdx + 7] << 23;
+            l0 |= tmp[tmpIdx + 8] << 22;
+            l0 |= tmp[tmpIdx + 9] << 21;
+            l0 |= tmp[tmpIdx + 10] << 20;
+            l0 |= tmp[tmpIdx + 11] << 19;
+            l0 |= tmp[tmpIdx + 12] << 18;
+            l0 |= tmp[tmpIdx + 13] << 17;
+            l0 |= tmp[tmpIdx + 14] << 16;
+            l0 |= tmp[tmpIdx + 15] << 15;
+            l0 |= tmp[tmpIdx + 16] << 14;
+            l0 |= tmp[tmpIdx + 17] << 13;
+            l0 |= tmp[tmpIdx + 18] << 12;
+            l0 |= tmp[tmpIdx + 19] << 11;
+            l0 |= tmp[tmpIdx + 20] << 10;
+            l0 |= tmp[tmpIdx + 21] << 9;
+            l0 |= tmp[tmpIdx + 22] << 8;
+            l0 |= tmp[tmpIdx + 23] << 7;
+            l0 |= tmp[tmpIdx + 24] << 6;
+            l0 |= tmp[tmpIdx + 25] << 5;
+            l0 |= tmp[tmpIdx + 26] << 4;
+            l0 |= tmp[tmpIdx + 27] << 3;
+            l0 |= tmp[tmpIdx + 28] << 2;
+            l0 |= tmp[tmpIdx + 29] << 1;
+            l0 |= tmp[tmpIdx + 30] << 0;
+            longs[longsIdx + 0] = l0;
+        }
+    }
+
+    private static void decode32(DataInput in, long[] tmp, long[] longs) throws IOException {
+        in.readLongs(longs, 0, 64);
+    }
+
+    /**
+     * Reads longs from a long[], so that blocks on the heap share the DataInput code path. The long[]
+     * is also readable byte by byte, each long holding 8 bytes in little endian order, like the
+     * other implementations. Whole longs are read straight from the array while the position is
+     * aligned on a long.
+     */
+    static final class LongArrayDataInput extends DataInput {
+        private long[] longs;
+        // position in bytes
+        private int pos;
+
+        void reset(long[] longs) {
+            this.longs = longs;
+            this.pos = 0;
+        }
+
+        @Override
+        byte readByte() {
+            final byte b = (byte) (longs[pos >>> 3] >>> ((pos & 7) << 3));
+            pos++;
+            return b;
+        }
+
+        @Override
+        long readLong() throws IOException {
+            if ((pos & 7) != 0) {
+                return super.readLong();
+            }
+            final long l = longs[pos >>> 3];
+            pos += Long.BYTES;
+            return l;
+        }
+
+        @Override
+        void readLongs(long[] dst, int offset, int length) throws IOException {
+            if ((pos & 7) != 0) {
+                super.readLongs(dst, offset, length);
+                return;
+            }
+            System.arraycopy(longs, pos >>> 3, dst, offset, length);
+            pos += length * Long.BYTES;
+        }
+    }
+
+    /** Writes longs to a long[], the counterpart of {@link LongArrayDataInput}. */
+    static final class LongArrayDataOutput extends DataOutput {
+        private long[] longs;
+        // position in bytes
+        private int pos;
+
+        void reset(long[] longs) {
+            this.longs = longs;
+            this.pos = 0;
+        }
+
+        @Override
+        void writeByte(byte b) {
+            final int shift = (pos & 7) << 3;
+            final int idx = pos >>> 3;
+            longs[idx] = (longs[idx] & ~(0xFFL << shift)) | ((b & 0xFFL) << shift);
+            pos++;
+        }
+
+        @Override
+        void writeLong(long l) throws IOException {
+            if ((pos & 7) != 0) {
+                super.writeLong(l);
+                return;
+            }
+            longs[pos >>> 3] = l;
+            pos += Long.BYTES;
+        }
+    }
 }
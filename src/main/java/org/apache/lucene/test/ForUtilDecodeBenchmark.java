@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Decoding ForUtil's layout with ForUtil against SimdForUtil, and IntForUtil's int based layout
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class ForUtilDecodeBenchmark {
+
+  @Param({"1", "4", "7", "12", "16", "20", "27", "31"})
+  int bitsPerValue;
+
+  final ForUtil forUtil = new ForUtil();
+  final SimdForUtil simdForUtil = new SimdForUtil();
+  final IntForUtil intForUtil = new IntForUtil();
+
+  private long[] packed;
+  private long[] longsOutput = new long[128];
+  private int[] packedInts;
+  private int[] intsOutput = new int[128];
+
+  @Setup(Level.Trial)
+  public void init() throws IOException {
+    long[] longs = new long[128];
+    int[] ints = new int[128];
+    for (int i = 0; i < 128; i++) {
+      longs[i] = ThreadLocalRandom.current().nextLong(1L << bitsPerValue);
+      ints[i] = (int) longs[i];
+    }
+    packed = new long[bitsPerValue * 2];
+    forUtil.encode(longs, bitsPerValue, packed);
+    packedInts = new int[bitsPerValue * 4];
+    intForUtil.encode(ints, bitsPerValue, packedInts);
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long[] decodeForUtil() throws IOException {
+    forUtil.decode(bitsPerValue, packed, longsOutput);
+    return longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long[] decodeSimdForUtil() {
+    simdForUtil.decode(bitsPerValue, packed, longsOutput);
+    return longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long[] decodeTo32ForUtil() throws IOException {
+    forUtil.decodeTo32(bitsPerValue, packed, longsOutput);
+    return longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long[] decodeTo32SimdForUtil() {
+    simdForUtil.decodeTo32(bitsPerValue, packed, longsOutput);
+    return longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] decodeIntForUtil() {
+    intForUtil.decode(bitsPerValue, packedInts, intsOutput);
+    return intsOutput;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.IOException;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A version of {@link ForUtil} that encodes from and decodes to {@code int[]}, so that consumers get
+ * 128 ints directly rather than longs that need to be split again, and the decoded block takes half
+ * the memory.
+ *
+ * The algorithm is ForUtil's, with ints rather than longs as the unit of work: values that fit in 8
+ * bits are collapsed 4 per int, values that fit in 16 bits 2 per int, and wider values stay one per
+ * int, before being packed into {@code 4 * bitsPerValue} ints. The format is therefore not ForUtil's
+ * long based format, see {@link SimdForUtil} to decode that format. A block takes {@link
+ * ForUtil#numBytes} bytes in either format. Since a decoded int already holds one 32 bits value,
+ * there is no counterpart to {@link ForUtil#decodeTo32}.
+ *
+ * Like ForUtil, encoding leaves the input alone, it is collapsed into a scratch array instead.
+ */
+final class IntForUtil {
+
+  private static final int BLOCK_SIZE = ForUtil.BLOCK_SIZE;
+  private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+  private static final int INT_LANES = INT_SPECIES.length();
+
+  private static final int[] MASKS8 = new int[9];
+  private static final int[] MASKS16 = new int[17];
+  private static final int[] MASKS32 = new int[33];
+
+  static {
+    for (int i = 0; i <= 8; ++i) {
+      MASKS8[i] = mask8(i);
+    }
+    for (int i = 0; i <= 16; ++i) {
+      MASKS16[i] = mask16(i);
+    }
+    for (int i = 0; i <= 32; ++i) {
+      MASKS32[i] = mask32(i);
+    }
+  }
+
+  private static int mask32(int bitsPerValue) {
+    return bitsPerValue == 32 ? -1 : (1 << bitsPerValue) - 1;
+  }
+
+  private static int mask16(int bitsPerValue) {
+    final int mask16 = mask32(bitsPerValue);
+    return mask16 | (mask16 << 16);
+  }
+
+  private static int mask8(int bitsPerValue) {
+    final int mask8 = mask32(bitsPerValue);
+    return mask8 | (mask8 << 8) | (mask8 << 16) | (mask8 << 24);
+  }
+
+  private static int[] masks(int primitive) {
+    return primitive == 8 ? MASKS8 : primitive == 16 ? MASKS16 : MASKS32;
+  }
+
+  private static int primitive(int bitsPerValue) {
+    if (bitsPerValue < 1 || bitsPerValue > 32) {
+      throw new UnsupportedOperationException("bitsPerValue=" + bitsPerValue);
+    }
+    return bitsPerValue <= 8 ? 8 : bitsPerValue <= 16 ? 16 : 32;
+  }
+
+  // Like ForUtil's, the expand and collapse passes work a vector of ints at a time, and the
+  // expansions read the first 32 or 64 ints before writing below them, so they can work in place.
+
+  private static void collapse8(int[] src, int[] dst) {
+    for (int i = 0; i < 32; i += INT_LANES) {
+      IntVector.fromArray(INT_SPECIES, src, i).lanewise(VectorOperators.LSHL, 24)
+          .or(IntVector.fromArray(INT_SPECIES, src, 32 + i).lanewise(VectorOperators.LSHL, 16))
+          .or(IntVector.fromArray(INT_SPECIES, src, 64 + i).lanewise(VectorOperators.LSHL, 8))
+          .or(IntVector.fromArray(INT_SPECIES, src, 96 + i))
+          .intoArray(dst, i);
+    }
+  }
+
+  private static void collapse16(int[] src, int[] dst) {
+    for (int i = 0; i < 64; i += INT_LANES) {
+      IntVector.fromArray(INT_SPECIES, src, i).lanewise(VectorOperators.LSHL, 16)
+          .or(IntVector.fromArray(INT_SPECIES, src, 64 + i))
+          .intoArray(dst, i);
+    }
+  }
+
+  private static void expand8(int[] arr) {
+    for (int i = 0; i < 32; i += INT_LANES) {
+      final IntVector l = IntVector.fromArray(INT_SPECIES, arr, i);
+      for (int k = 3; k >= 0; --k) {
+        l.lanewise(VectorOperators.LSHR, 24 - 8 * k).and(0xFF).intoArray(arr, 32 * k + i);
+      }
+    }
+  }
+
+  private static void expand16(int[] arr) {
+    for (int i = 0; i < 64; i += INT_LANES) {
+      final IntVector l = IntVector.fromArray(INT_SPECIES, arr, i);
+      l.and(0xFFFF).intoArray(arr, 64 + i);
+      l.lanewise(VectorOperators.LSHR, 16).intoArray(arr, i);
+    }
+  }
+
+  private final int[] collapsed = new int[BLOCK_SIZE];
+  private final int[] tmp = new int[BLOCK_SIZE];
+
+  /** Encode 128 integers from {@code ints} into the first {@code 4 * bitsPerValue} ints of {@code out}. */
+  void encode(int[] ints, int bitsPerValue, int[] out) {
+    final int primitive = primitive(bitsPerValue);
+    final int[] masks = masks(primitive);
+    final int[] src;
+    if (primitive == 8) {
+      collapse8(ints, collapsed);
+      src = collapsed;
+    } else if (primitive == 16) {
+      collapse16(ints, collapsed);
+      src = collapsed;
+    } else {
+      src = ints;
+    }
+    final int numInts = BLOCK_SIZE * primitive / 32;
+
+    final int numIntsPerShift = bitsPerValue * 4;
+    int idx = 0;
+    int shift = primitive - bitsPerValue;
+    for (int i = 0; i < numIntsPerShift; ++i) {
+      out[i] = src[idx++] << shift;
+    }
+    for (shift = shift - bitsPerValue; shift >= 0; shift -= bitsPerValue) {
+      for (int i = 0; i < numIntsPerShift; ++i) {
+        out[i] |= src[idx++] << shift;
+      }
+    }
+
+    final int remainingBitsPerInt = shift + bitsPerValue;
+    final int maskRemainingBitsPerInt = masks[remainingBitsPerInt];
+    int outIdx = 0;
+    int remainingBitsPerValue = bitsPerValue;
+    while (idx < numInts) {
+      if (remainingBitsPerValue >= remainingBitsPerInt) {
+        remainingBitsPerValue -= remainingBitsPerInt;
+        out[outIdx++] |= (src[idx] >>> remainingBitsPerValue) & maskRemainingBitsPerInt;
+        if (remainingBitsPerValue == 0) {
+          idx++;
+          remainingBitsPerValue = bitsPerValue;
+        }
+      } else {
+        final int mask1 = masks[remainingBitsPerValue];
+        final int mask2 = masks[remainingBitsPerInt - remainingBitsPerValue];
+        out[outIdx] |= (src[idx++] & mask1) << (remainingBitsPerInt - remainingBitsPerValue);
+        remainingBitsPerValue = bitsPerValue - remainingBitsPerInt + remainingBitsPerValue;
+        out[outIdx++] |= (src[idx] >>> remainingBitsPerValue) & mask2;
+      }
+    }
+  }
+
+  /** Encode 128 integers from {@code ints} into {@code out}. */
+  void encode(int[] ints, int bitsPerValue, DataOutput out) throws IOException {
+    encode(ints, bitsPerValue, tmp);
+    out.writeInts(tmp, 0, bitsPerValue * 4);
+  }
+
+  /** Decode 128 integers from the packed ints of {@code in} into {@code ints}, {@code in} is left untouched. */
+  void decode(int bitsPerValue, int[] in, int[] ints) {
+    final int primitive = primitive(bitsPerValue);
+    final int[] masks = masks(primitive);
+    final int numInts = bitsPerValue * 4;
+    final int mask = masks[bitsPerValue];
+    int intsIdx = 0;
+    int shift = primitive - bitsPerValue;
+    for (; shift >= 0; shift -= bitsPerValue) {
+      shiftInts(in, numInts, ints, intsIdx, shift, mask);
+      intsIdx += numInts;
+    }
+
+    final int remainingBitsPerInt = shift + bitsPerValue;
+    final int maskRemainingBitsPerInt = masks[remainingBitsPerInt];
+    final int numCollapsed = BLOCK_SIZE * primitive / 32;
+    int inIdx = 0;
+    int remainingBits = remainingBitsPerInt;
+    for (; intsIdx < numCollapsed; ++intsIdx) {
+      int b = bitsPerValue - remainingBits;
+      int l = (in[inIdx++] & masks[remainingBits]) << b;
+      while (b >= remainingBitsPerInt) {
+        b -= remainingBitsPerInt;
+        l |= (in[inIdx++] & maskRemainingBitsPerInt) << b;
+      }
+      if (b > 0) {
+        l |= (in[inIdx] >>> (remainingBitsPerInt - b)) & masks[b];
+        remainingBits = remainingBitsPerInt - b;
+      } else {
+        remainingBits = remainingBitsPerInt;
+      }
+      ints[intsIdx] = l;
+    }
+
+    if (primitive == 8) {
+      expand8(ints);
+    } else if (primitive == 16) {
+      expand16(ints);
+    }
+  }
+
+  /** Decode 128 integers into {@code ints}. */
+  void decode(int bitsPerValue, DataInput in, int[] ints) throws IOException {
+    in.readInts(tmp, 0, bitsPerValue * 4);
+    decode(bitsPerValue, tmp, ints);
+  }
+
+  /** Same pattern as ForUtil's shiftLongs, which C2 vectorizes. */
+  private static void shiftInts(int[] a, int count, int[] b, int bi, int shift, int mask) {
+    for (int i = 0; i < count; ++i) {
+      b[bi + i] = (a[i] >>> shift) & mask;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Decodes a sequence written by {@link IntSequenceWriter} from a {@link DataInput}, lazily, one
+ * block at a time with {@link #nextBlock}, or one integer at a time with {@link #iterator}. The
+ * length of the sequence does not need to be known up front, the tail block marks its end.
+ *
+ * Instances are not thread safe.
+ */
+final class IntSequenceReader {
+
+  private static final int BLOCK_SIZE = SimdBitPacking.BLOCK_SIZE;
+
+  private final DataInput in;
+  private final IntSequenceFormat format;
+  private final IntForUtil forUtil = new IntForUtil();
+  private final int[] packed = new int[BLOCK_SIZE];
+  private boolean exhausted;
+
+  /** Reads the header of the sequence that starts at the current position of {@code in}. */
+  IntSequenceReader(DataInput in) throws IOException {
+    this.in = in;
+    final int format = in.readByte();
+    if (format < 0 || format >= IntSequenceFormat.values().length) {
+      throw new IllegalStateException("Corrupt sequence: unknown format " + format);
+    }
+    this.format = IntSequenceFormat.values()[format];
+  }
+
+  /** The format of the full blocks of the sequence. */
+  IntSequenceFormat format() {
+    return format;
+  }
+
+  /**
+   * Decodes the next block into the first integers of {@code ints}, which must have room for 128
+   * integers, and returns the number of integers decoded: 128 for a full block, less for the tail
+   * block, and 0 once the sequence is exhausted.
+   */
+  int nextBlock(int[] ints) throws IOException {
+    if (exhausted) {
+      return 0;
+    }
+    final int header = in.readByte() & 0xFF;
+    final int bitsPerValue = header & ~IntSequenceWriter.TAIL;
+    if (bitsPerValue > 32) {
+      throw new IllegalStateException("Corrupt sequence: " + bitsPerValue + " bits per value");
+    }
+    if ((header & IntSequenceWriter.TAIL) != 0) {
+      exhausted = true;
+      final int length = in.readByte() & 0xFF;
+      if (length >= BLOCK_SIZE) {
+        throw new IllegalStateException("Corrupt sequence: tail block of " + length + " integers");
+      }
+      if (bitsPerValue == 0) {
+        Arrays.fill(ints, 0, length, 0);
+      } else {
+        in.readInts(packed, 0, SimdBitPackingTail.numInts(length, bitsPerValue));
+        SimdBitPackingTail.simdUnpackTail(packed, ints, length, bitsPerValue);
+      }
+      return length;
+    }
+    if (bitsPerValue == 0) {
+      Arrays.fill(ints, 0, BLOCK_SIZE, 0);
+    } else if (format == IntSequenceFormat.SIMD) {
+      in.readInts(packed, 0, bitsPerValue * 4);
+      SimdBitPacking.simdUnpack(packed, ints, bitsPerValue);
+    } else {
+      forUtil.decode(bitsPerValue, in, ints);
+    }
+    return BLOCK_SIZE;
+  }
+
+  /**
+   * Returns an iterator over the remaining integers of the sequence, which decodes a block whenever
+   * the previous one has been consumed. {@link IOException}s are rethrown as {@link
+   * UncheckedIOException}s.
+   */
+  PrimitiveIterator.OfInt iterator() {
+    return new PrimitiveIterator.OfInt() {
+      private final int[] ints = new int[BLOCK_SIZE];
+      private int upTo;
+      private int count;
+
+      @Override
+      public boolean hasNext() {
+        if (upTo == count) {
+          try {
+            count = nextBlock(ints);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          upTo = 0;
+        }
+        return upTo < count;
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return ints[upTo++];
+      }
+    };
+  }
+}
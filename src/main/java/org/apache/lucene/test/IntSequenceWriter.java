@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.IOException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Encodes a sequence of integers of any length into a {@link DataOutput}, to be read back with
+ * {@link IntSequenceReader}. Integers are buffered into blocks of 128, and each block is packed
+ * with the number of bits that its largest integer needs. The sequence is self-describing:
+ * <ul>
+ *   <li>the {@link IntSequenceFormat} of the full blocks, as one byte,
+ *   <li>for every full block of 128 integers, its bits per value, 0 - 32, as one byte, followed by
+ *       the block packed in that format, or nothing if all integers are 0,
+ *   <li>a tail block of the remaining 0 - 127 integers: {@link #TAIL} or'ed with its bits per value
+ *       as one byte, its number of integers as one byte, and the integers packed with {@link
+ *       SimdBitPackingTail}, whatever the format.
+ * </ul>
+ * The tail block is always written, possibly empty, so it also marks the end of the sequence.
+ * Integers are treated as unsigned, negative integers take 32 bits.
+ */
+final class IntSequenceWriter {
+
+  /** Flags the header byte of the tail block. */
+  static final int TAIL = 0x80;
+
+  private static final int BLOCK_SIZE = SimdBitPacking.BLOCK_SIZE;
+
+  private final DataOutput out;
+  private final IntSequenceFormat format;
+  private final IntForUtil forUtil = new IntForUtil();
+  private final int[] buffer = new int[BLOCK_SIZE];
+  private final int[] packed = new int[BLOCK_SIZE];
+  private int length;
+  private boolean finished;
+
+  /** Writes the header of a new sequence to {@code out}, whose full blocks will be packed in {@code format}. */
+  IntSequenceWriter(DataOutput out, IntSequenceFormat format) throws IOException {
+    this.out = out;
+    this.format = format;
+    out.writeByte((byte) format.ordinal());
+  }
+
+  /** Appends {@code value} to the sequence. */
+  void add(int value) throws IOException {
+    ensureOpen();
+    buffer[length++] = value;
+    if (length == BLOCK_SIZE) {
+      writeBlock();
+    }
+  }
+
+  /** Appends {@code length} integers of {@code values}, starting at {@code offset}, to the sequence. */
+  void add(int[] values, int offset, int length) throws IOException {
+    ensureOpen();
+    while (length > 0) {
+      final int chunk = Math.min(length, BLOCK_SIZE - this.length);
+      System.arraycopy(values, offset, buffer, this.length, chunk);
+      this.length += chunk;
+      offset += chunk;
+      length -= chunk;
+      if (this.length == BLOCK_SIZE) {
+        writeBlock();
+      }
+    }
+  }
+
+  /** Appends all integers of {@code values} to the sequence, consuming the stream. */
+  void add(IntStream values) throws IOException {
+    ensureOpen();
+    for (PrimitiveIterator.OfInt it = values.iterator(); it.hasNext(); ) {
+      add(it.nextInt());
+    }
+  }
+
+  /** Writes the tail block, which ends the sequence. Nothing may be added afterwards. */
+  void finish() throws IOException {
+    ensureOpen();
+    finished = true;
+    int or = 0;
+    for (int i = 0; i < length; ++i) {
+      or |= buffer[i];
+    }
+    final int bitsPerValue = 32 - Integer.numberOfLeadingZeros(or);
+    out.writeByte((byte) (TAIL | bitsPerValue));
+    out.writeByte((byte) length);
+    if (bitsPerValue > 0) {
+      SimdBitPackingTail.simdPackTail(buffer, length, packed, bitsPerValue);
+      out.writeInts(packed, 0, SimdBitPackingTail.numInts(length, bitsPerValue));
+    }
+    length = 0;
+  }
+
+  /** Encodes all integers of {@code values} into {@code out} as a complete sequence. */
+  static void encode(int[] values, IntSequenceFormat format, DataOutput out) throws IOException {
+    IntSequenceWriter writer = new IntSequenceWriter(out, format);
+    writer.add(values, 0, values.length);
+    writer.finish();
+  }
+
+  private void writeBlock() throws IOException {
+    final int bitsPerValue = SimdBitPacking.simdMaxBits(buffer);
+    out.writeByte((byte) bitsPerValue);
+    if (bitsPerValue > 0) {
+      if (format == IntSequenceFormat.SIMD) {
+        SimdBitPacking.simdPack(buffer, packed, bitsPerValue);
+        out.writeInts(packed, 0, bitsPerValue * 4);
+      } else {
+        forUtil.encode(buffer, bitsPerValue, out);
+      }
+    }
+    length = 0;
+  }
+
+  private void ensureOpen() {
+    if (finished) {
+      throw new IllegalStateException("The sequence is already finished");
+    }
+  }
+}
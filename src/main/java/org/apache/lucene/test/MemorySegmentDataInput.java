@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link DataInput} over a {@link MemorySegment}, typically a memory mapped file, see {@link
+ * #map}. The bulk reads are a single {@link MemorySegment#copy} each.
+ */
+final class MemorySegmentDataInput extends DataInput {
+
+  private static final ValueLayout.OfInt INT_LE = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+  private static final ValueLayout.OfLong LONG_LE = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private final MemorySegment segment;
+  private long pos;
+
+  MemorySegmentDataInput(MemorySegment segment) {
+    this.segment = segment;
+  }
+
+  /** Memory maps {@code path} read-only, the mapping lives as long as {@code arena}. */
+  static MemorySegmentDataInput map(Path path, Arena arena) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new MemorySegmentDataInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena));
+    }
+  }
+
+  MemorySegment segment() {
+    return segment;
+  }
+
+  /** Returns the position of the next byte to read. */
+  long position() {
+    return pos;
+  }
+
+  /** Moves to {@code pos}, the position of the next byte to read. */
+  void seek(long pos) {
+    this.pos = pos;
+  }
+
+  @Override
+  byte readByte() {
+    return segment.get(ValueLayout.JAVA_BYTE, pos++);
+  }
+
+  @Override
+  int readInt() {
+    final int i = segment.get(INT_LE, pos);
+    pos += Integer.BYTES;
+    return i;
+  }
+
+  @Override
+  long readLong() {
+    final long l = segment.get(LONG_LE, pos);
+    pos += Long.BYTES;
+    return l;
+  }
+
+  @Override
+  void readInts(int[] dst, int offset, int length) {
+    MemorySegment.copy(segment, INT_LE, pos, dst, offset, length);
+    pos += (long) length * Integer.BYTES;
+  }
+
+  @Override
+  void readLongs(long[] dst, int offset, int length) {
+    MemorySegment.copy(segment, LONG_LE, pos, dst, offset, length);
+    pos += (long) length * Long.BYTES;
+  }
+}
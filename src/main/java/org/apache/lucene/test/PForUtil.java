@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Patched frame of reference, encodes blocks of 128 integers with {@link SimdBitPacking}, at a bit
+ * width that may be narrower than what the largest values need. The values that don't fit, the
+ * exceptions, have their high bits stored separately and patched back in after unpacking.
+ *
+ * An encoded block is laid out as follows, in ints:
+ * <ul>
+ *   <li>a token, the bit width in the low 8 bits and the number of exceptions above,
+ *   <li>{@code bitsPerValue * 4} ints, the low bits of all values packed with {@link SimdBitPacking#simdPackWithMask},
+ *   <li>the positions of the exceptions in the block, one byte each, four per int starting with the low byte,
+ *   <li>the high bits of the exceptions, {@code value >>> bitsPerValue}, one int each.
+ * </ul>
+ * The bit width is picked by {@link #bitsPerValue(int[])}, which minimizes the encoded size.
+ */
+final class PForUtil {
+
+  private static final int BLOCK_SIZE = ForUtil.BLOCK_SIZE;
+  private static final VectorSpecies<Integer> SPECIES_128 = IntVector.SPECIES_128;
+
+  private final int[] positions = new int[BLOCK_SIZE];
+
+  /** Number of ints that a block encoded with {@code bitsPerValue} bits and {@code numExceptions} exceptions takes. */
+  static int numInts(int bitsPerValue, int numExceptions) {
+    return 1 + bitsPerValue * 4 + ((numExceptions + 3) >> 2) + numExceptions;
+  }
+
+  /**
+   * Returns the bit width that encodes {@code ints} in the fewest ints, see {@link #numInts}. On
+   * ties, the wider bit width is preferred since it has fewer exceptions to patch.
+   */
+  static int bitsPerValue(int[] ints) {
+    final int[] histogram = new int[33];
+    for (int i = 0; i < BLOCK_SIZE; ++i) {
+      histogram[32 - Integer.numberOfLeadingZeros(ints[i])]++;
+    }
+    int maxBitsPerValue = 32;
+    while (maxBitsPerValue > 1 && histogram[maxBitsPerValue] == 0) {
+      maxBitsPerValue--;
+    }
+    int bestBitsPerValue = maxBitsPerValue;
+    int bestNumInts = numInts(maxBitsPerValue, 0);
+    int numExceptions = 0;
+    for (int bitsPerValue = maxBitsPerValue - 1; bitsPerValue >= 1; --bitsPerValue) {
+      numExceptions += histogram[bitsPerValue + 1];
+      final int numInts = numInts(bitsPerValue, numExceptions);
+      if (numInts < bestNumInts) {
+        bestNumInts = numInts;
+        bestBitsPerValue = bitsPerValue;
+      }
+    }
+    return bestBitsPerValue;
+  }
+
+  /** Encode 128 integers from {@code ints} into {@code out}, returns the number of ints written. */
+  int encode(int[] ints, int[] out) {
+    final int bitsPerValue = bitsPerValue(ints);
+    int numExceptions = 0;
+    if (bitsPerValue < 32) {
+      // find the exceptions a vector at a time, they have bits set above bitsPerValue
+      final int highMask = -1 << bitsPerValue;
+      for (int i = 0; i < BLOCK_SIZE; i += 4) {
+        long exceptions = IntVector.fromArray(SPECIES_128, ints, i)
+            .and(highMask)
+            .compare(VectorOperators.NE, 0)
+            .toLong();
+        while (exceptions != 0) {
+          positions[numExceptions++] = i + Long.numberOfTrailingZeros(exceptions);
+          exceptions &= exceptions - 1;
+        }
+      }
+    }
+
+    out[0] = bitsPerValue | (numExceptions << 8);
+    SimdBitPacking.simdPackWithMask(ints, 0, out, 1, bitsPerValue);
+    int outIdx = 1 + bitsPerValue * 4;
+    for (int i = 0; i < numExceptions; i += 4) {
+      int packedPositions = 0;
+      for (int j = i; j < Math.min(i + 4, numExceptions); ++j) {
+        packedPositions |= positions[j] << ((j & 3) << 3);
+      }
+      out[outIdx++] = packedPositions;
+    }
+    for (int i = 0; i < numExceptions; ++i) {
+      out[outIdx++] = ints[positions[i]] >>> bitsPerValue;
+    }
+    return outIdx;
+  }
+
+  /** Decode 128 integers from {@code in} into {@code ints}, returns the number of ints read. */
+  int decode(int[] in, int[] ints) {
+    final int bitsPerValue = in[0] & 0xFF;
+    final int numExceptions = in[0] >>> 8;
+    SimdBitPacking.simdUnpack(in, 1, ints, 0, bitsPerValue);
+
+    int inIdx = 1 + bitsPerValue * 4;
+    for (int i = 0; i < numExceptions; ++i) {
+      positions[i] = (in[inIdx + (i >> 2)] >>> ((i & 3) << 3)) & 0xFF;
+    }
+    inIdx += (numExceptions + 3) >> 2;
+
+    // patch the exceptions with a gather and a scatter per vector of exceptions
+    int i = 0;
+    for (; i + 4 <= numExceptions; i += 4) {
+      IntVector high = IntVector.fromArray(SPECIES_128, in, inIdx + i);
+      IntVector.fromArray(SPECIES_128, ints, 0, positions, i)
+          .or(high.lanewise(VectorOperators.LSHL, bitsPerValue))
+          .intoArray(ints, 0, positions, i);
+    }
+    for (; i < numExceptions; ++i) {
+      ints[positions[i]] |= in[inIdx + i] << bitsPerValue;
+    }
+    return inIdx + numExceptions;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory maps a file written by {@link PackedBlockWriter} and decodes its blocks on demand, either
+ * sequentially with {@link #next} or at any block with {@link #seek} or {@link #readBlock}. Only the
+ * footer is read when opening, to compute the offset of every block from its bits per value, so
+ * files may be much larger than the heap.
+ *
+ * Both formats are decoded straight from the mapped segment, {@link BlockFormat#SIMD} blocks by
+ * {@link SimdBitPacking} and {@link BlockFormat#FOR} blocks by {@link SimdForUtil}, whose output is
+ * the output of {@link ForUtil#decode}.
+ *
+ * Instances are not thread safe, but may be closed from any thread.
+ */
+final class PackedBlockReader implements Closeable {
+
+  private final Arena arena;
+  private final MemorySegment segment;
+  private final BlockFormat format;
+  private final byte[] bitsPerValues;
+  private final long[] offsets;
+  private final ForUtil forUtil = new ForUtil();
+  private final SimdForUtil simdForUtil = new SimdForUtil();
+  private int nextBlock;
+
+  private PackedBlockReader(Arena arena, MemorySegment segment) {
+    this.arena = arena;
+    this.segment = segment;
+    final long footerEnd = segment.byteSize();
+    this.format = BlockFormat.values()[segment.get(ValueLayout.JAVA_BYTE, footerEnd - 1)];
+    final int numBlocks = segment.get(ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), footerEnd - 1 - Integer.BYTES);
+    final long footerStart = footerEnd - 1 - Integer.BYTES - numBlocks;
+    this.bitsPerValues = segment.asSlice(footerStart, numBlocks).toArray(ValueLayout.JAVA_BYTE);
+    this.offsets = new long[numBlocks + 1];
+    for (int i = 0; i < numBlocks; ++i) {
+      offsets[i + 1] = offsets[i] + forUtil.numBytes(bitsPerValues[i]);
+    }
+    if (offsets[numBlocks] != footerStart) {
+      throw new IllegalStateException("Corrupt file: blocks end at " + offsets[numBlocks] + " but the footer starts at " + footerStart);
+    }
+  }
+
+  /** Memory maps {@code path}, which must have been written by {@link PackedBlockWriter}. */
+  static PackedBlockReader open(Path path) throws IOException {
+    final Arena arena = Arena.ofShared();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new PackedBlockReader(arena, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena));
+    } catch (Throwable t) {
+      arena.close();
+      throw t;
+    }
+  }
+
+  BlockFormat format() {
+    return format;
+  }
+
+  int numBlocks() {
+    return bitsPerValues.length;
+  }
+
+  int bitsPerValue(int block) {
+    return bitsPerValues[block];
+  }
+
+  /** Moves to {@code block}, the block that the next call to {@link #next} decodes. */
+  void seek(int block) {
+    if (block < 0 || block > numBlocks()) {
+      throw new IndexOutOfBoundsException("block=" + block + ", numBlocks=" + numBlocks());
+    }
+    nextBlock = block;
+  }
+
+  /** Decodes the next {@link BlockFormat#SIMD} block into {@code ints}, returns false if there are no more blocks. */
+  boolean next(int[] ints) {
+    if (nextBlock == numBlocks()) {
+      return false;
+    }
+    readBlock(nextBlock++, ints);
+    return true;
+  }
+
+  /** Decodes the next {@link BlockFormat#FOR} block into {@code longs}, returns false if there are no more blocks. */
+  boolean next(long[] longs) {
+    if (nextBlock == numBlocks()) {
+      return false;
+    }
+    readBlock(nextBlock++, longs);
+    return true;
+  }
+
+  /** Decodes {@link BlockFormat#SIMD} block {@code block} into {@code ints}. */
+  void readBlock(int block, int[] ints) {
+    if (format != BlockFormat.SIMD) {
+      throw new IllegalStateException("Cannot read int blocks from a " + format + " file");
+    }
+    SimdBitPacking.simdUnpack(segment, offsets[block], ByteOrder.LITTLE_ENDIAN, ints, bitsPerValues[block]);
+  }
+
+  /** Decodes {@link BlockFormat#FOR} block {@code block} into {@code longs}. */
+  void readBlock(int block, long[] longs) {
+    if (format != BlockFormat.FOR) {
+      throw new IllegalStateException("Cannot read long blocks from a " + format + " file");
+    }
+    simdForUtil.decode(bitsPerValues[block], segment, offsets[block], longs);
+  }
+
+  @Override
+  public void close() {
+    arena.close();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes consecutive packed blocks of 128 integers to a file, to be read back with {@link
+ * PackedBlockReader}. Blocks are appended as they are written, and the file ends with a footer:
+ * <ul>
+ *   <li>the bits per value of each block, one byte per block,
+ *   <li>the number of blocks, as a little endian int,
+ *   <li>the {@link BlockFormat} of the blocks, as one byte.
+ * </ul>
+ * A block packed with {@code bitsPerValue} bits takes {@link ForUtil#numBytes} bytes in either
+ * format, so the footer is all that is needed to locate any block.
+ */
+final class PackedBlockWriter implements Closeable {
+
+  private final FileChannel channel;
+  private final BlockFormat format;
+  private final ByteBuffer buffer = ByteBuffer.allocate(ForUtil.BLOCK_SIZE * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+  private final ForUtil forUtil = new ForUtil();
+  private final int[] packedInts = new int[ForUtil.BLOCK_SIZE];
+  private final long[] packedLongs = new long[ForUtil.BLOCK_SIZE / 2];
+  private byte[] bitsPerValues = new byte[16];
+  private int numBlocks;
+
+  PackedBlockWriter(Path path, BlockFormat format) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    this.format = format;
+  }
+
+  /** Packs and appends a {@link BlockFormat#SIMD} block of 128 integers that fit in {@code bitsPerValue} bits, 0 - 32. */
+  void writeBlock(int[] ints, int bitsPerValue) throws IOException {
+    if (format != BlockFormat.SIMD) {
+      throw new IllegalStateException("Cannot write int blocks to a " + format + " file");
+    }
+    checkBitsPerValue(bitsPerValue);
+    SimdBitPacking.simdPack(ints, packedInts, bitsPerValue);
+    buffer.clear();
+    buffer.asIntBuffer().put(packedInts, 0, bitsPerValue * 4);
+    buffer.limit(bitsPerValue * 4 * Integer.BYTES);
+    append(bitsPerValue);
+  }
+
+  /** Packs and appends a {@link BlockFormat#FOR} block of 128 integers that fit in {@code bitsPerValue} bits, 0 - 32. */
+  void writeBlock(long[] longs, int bitsPerValue) throws IOException {
+    if (format != BlockFormat.FOR) {
+      throw new IllegalStateException("Cannot write long blocks to a " + format + " file");
+    }
+    checkBitsPerValue(bitsPerValue);
+    forUtil.encode(longs, bitsPerValue, packedLongs);
+    buffer.clear();
+    buffer.asLongBuffer().put(packedLongs, 0, bitsPerValue * 2);
+    buffer.limit(bitsPerValue * 2 * Long.BYTES);
+    append(bitsPerValue);
+  }
+
+  private static void checkBitsPerValue(int bitsPerValue) {
+    if (bitsPerValue < 0 || bitsPerValue > 32) {
+      throw new IllegalArgumentException("bitsPerValue must be 0 - 32, got " + bitsPerValue);
+    }
+  }
+
+  private void append(int bitsPerValue) throws IOException {
+    assert buffer.limit() == forUtil.numBytes(bitsPerValue);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    if (numBlocks == bitsPerValues.length) {
+      bitsPerValues = Arrays.copyOf(bitsPerValues, numBlocks * 2);
+    }
+    bitsPerValues[numBlocks++] = (byte) bitsPerValue;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try (channel) {
+      ByteBuffer footer = ByteBuffer.allocate(numBlocks + Integer.BYTES + 1).order(ByteOrder.LITTLE_ENDIAN);
+      footer.put(bitsPerValues, 0, numBlocks).putInt(numBlocks).put((byte) format.ordinal()).flip();
+      while (footer.hasRemaining()) {
+        channel.write(footer);
+      }
+    }
+  }
+}
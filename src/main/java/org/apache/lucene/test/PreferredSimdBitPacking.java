@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import jdk.incubator.vector.IntVector;
+
+/**
+ * Packs and unpacks blocks with the widest int vectors that the platform prefers, as reported by
+ * {@link IntVector#SPECIES_PREFERRED}: {@link SimdBitPacking512} with 16 lanes on AVX-512 hosts,
+ * {@link SimdBitPacking256} with 8 lanes on AVX2 hosts, and {@link SimdBitPacking} with 4 lanes
+ * otherwise.
+ *
+ * Each lane holds 32 values, so the block size, {@link #BLOCK_SIZE}, is 128, 256 or 512 ints and a
+ * block packed with {@code bit} bits per value takes {@code bit * BLOCK_SIZE / 32} ints. The packed
+ * layout depends on the number of lanes it was written with. Data that outlives the process must
+ * therefore record the block size next to it, and read it back with the class of that block size
+ * rather than with this one, since the reader may prefer a different vector size.
+ */
+final class PreferredSimdBitPacking {
+
+  /** Vector size in bits, one of 128, 256 or 512. */
+  static final int VECTOR_BITS = Math.min(512, Math.max(128, IntVector.SPECIES_PREFERRED.vectorBitSize()));
+
+  /** Number of values in a block. */
+  static final int BLOCK_SIZE = VECTOR_BITS;
+
+  private PreferredSimdBitPacking() {}
+
+  /** Number of ints that a block packed with {@code bit} bits per value takes. */
+  static int numInts(int bit) {
+    return bit * (BLOCK_SIZE / 32);
+  }
+
+  /* Assumes that integers fit in the prescribed number of bits */
+  static void simdPack(int[] input, int[] output, int bit) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdPack(input, output, bit); return;
+      case 256: SimdBitPacking256.simdPack(input, output, bit); return;
+      default : SimdBitPacking.simdPack(input, output, bit);
+    }
+  }
+
+  /* Like simdPack, but reads the input at inOffset and writes the packed block to output at outOffset */
+  static void simdPack(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdPack(input, inOffset, output, outOffset, bit); return;
+      case 256: SimdBitPacking256.simdPack(input, inOffset, output, outOffset, bit); return;
+      default : SimdBitPacking.simdPack(input, inOffset, output, outOffset, bit);
+    }
+  }
+
+  /* Like simdPack, but only packs the low bit bits of each integer, higher bits are ignored */
+  static void simdPackWithMask(int[] input, int[] output, int bit) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdPackWithMask(input, output, bit); return;
+      case 256: SimdBitPacking256.simdPackWithMask(input, output, bit); return;
+      default : SimdBitPacking.simdPackWithMask(input, output, bit);
+    }
+  }
+
+  /* Like simdPackWithMask, but reads the input at inOffset and writes the packed block to output at outOffset */
+  static void simdPackWithMask(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdPackWithMask(input, inOffset, output, outOffset, bit); return;
+      case 256: SimdBitPacking256.simdPackWithMask(input, inOffset, output, outOffset, bit); return;
+      default : SimdBitPacking.simdPackWithMask(input, inOffset, output, outOffset, bit);
+    }
+  }
+
+  static void simdUnpack(int[] input, int[] output, int bit) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdUnpack(input, output, bit); return;
+      case 256: SimdBitPacking256.simdUnpack(input, output, bit); return;
+      default : SimdBitPacking.simdUnpack(input, output, bit);
+    }
+  }
+
+  /* Like simdUnpack, but reads the packed block at inOffset and writes the integers to output at outOffset */
+  static void simdUnpack(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdUnpack(input, inOffset, output, outOffset, bit); return;
+      case 256: SimdBitPacking256.simdUnpack(input, inOffset, output, outOffset, bit); return;
+      default : SimdBitPacking.simdUnpack(input, inOffset, output, outOffset, bit);
+    }
+  }
+
+  /* Unpacks numBlocks blocks stored back to back in input, block i being packed with bits[i] bits per value */
+  static void simdUnpackBlocks(int[] input, int inOffset, int[] bits, int numBlocks, int[] output, int outOffset) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdUnpackBlocks(input, inOffset, bits, numBlocks, output, outOffset); return;
+      case 256: SimdBitPacking256.simdUnpackBlocks(input, inOffset, bits, numBlocks, output, outOffset); return;
+      default : SimdBitPacking.simdUnpackBlocks(input, inOffset, bits, numBlocks, output, outOffset);
+    }
+  }
+
+  /* Returns the number of bits that simdPack needs to pack the BLOCK_SIZE integers, 0 - 32 */
+  static int simdMaxBits(int[] input) {
+    switch (VECTOR_BITS) {
+      case 512: return SimdBitPacking512.simdMaxBits(input);
+      case 256: return SimdBitPacking256.simdMaxBits(input);
+      default : return SimdBitPacking.simdMaxBits(input);
+    }
+  }
+
+  /* Returns value index of the block packed with bit bits per value at inOffset of input, without unpacking it */
+  static int simdGet(int[] input, int inOffset, int bit, int index) {
+    switch (VECTOR_BITS) {
+      case 512: return SimdBitPacking512.simdGet(input, inOffset, bit, index);
+      case 256: return SimdBitPacking256.simdGet(input, inOffset, bit, index);
+      default : return SimdBitPacking.simdGet(input, inOffset, bit, index);
+    }
+  }
+
+  /* Like simdGet, for the count indices of indices, written to output */
+  static void simdGetMany(int[] input, int inOffset, int bit, int[] indices, int count, int[] output) {
+    switch (VECTOR_BITS) {
+      case 512: SimdBitPacking512.simdGetMany(input, inOffset, bit, indices, count, output); return;
+      case 256: SimdBitPacking256.simdGetMany(input, inOffset, bit, indices, count, output); return;
+      default : SimdBitPacking.simdGetMany(input, inOffset, bit, indices, count, output);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Reading a few values of a packed block, as for the doc values of a few docs, by decoding the whole block against
+// reading the values straight from the packed block.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class RandomAccessBenchmark {
+
+  @Param({"5", "13", "27"})
+  int bitsPerValue;
+
+  @Param({"1", "16"})
+  int numLookups;
+
+  private final ForUtil forUtil = new ForUtil();
+  private int[] indices;
+  private int[] packed;
+  private long[] longsPacked;
+  private int[] intsOutput = new int[128];
+  private long[] longsOutput = new long[128];
+
+  @Setup(Level.Trial)
+  public void init() throws IOException {
+    int[] ints = new int[128];
+    long[] longs = new long[128];
+    for (int i = 0; i < 128; i++) {
+      ints[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bitsPerValue);
+      longs[i] = ints[i];
+    }
+    packed = new int[bitsPerValue * 4];
+    SimdBitPacking.simdPack(ints, packed, bitsPerValue);
+    longsPacked = new long[bitsPerValue * 2];
+    forUtil.encode(longs, bitsPerValue, longsPacked);
+    indices = ThreadLocalRandom.current().ints(numLookups, 0, 128).toArray();
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] simdUnpackThenRead() {
+    SimdBitPacking.simdUnpack(packed, intsOutput, bitsPerValue);
+    int[] values = new int[numLookups];
+    for (int i = 0; i < numLookups; i++) {
+      values[i] = intsOutput[indices[i]];
+    }
+    return values;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] simdGet() {
+    int[] values = new int[numLookups];
+    for (int i = 0; i < numLookups; i++) {
+      values[i] = SimdBitPacking.simdGet(packed, bitsPerValue, indices[i]);
+    }
+    return values;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] simdGetMany() {
+    int[] values = new int[numLookups];
+    SimdBitPacking.simdGetMany(packed, 0, bitsPerValue, indices, numLookups, values);
+    return values;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long[] forUtilDecodeThenRead() throws IOException {
+    forUtil.decode(bitsPerValue, longsPacked, longsOutput);
+    long[] values = new long[numLookups];
+    for (int i = 0; i < numLookups; i++) {
+      values[i] = longsOutput[indices[i]];
+    }
+    return values;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public long[] forUtilGet() {
+    long[] values = new long[numLookups];
+    for (int i = 0; i < numLookups; i++) {
+      values[i] = ForUtil.get(longsPacked, bitsPerValue, indices[i]);
+    }
+    return values;
+  }
+}
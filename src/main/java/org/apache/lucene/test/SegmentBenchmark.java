@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Decoding a block held off heap, as in a memory mapped file, straight from the segment against
+// copying it to an int[] first
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class SegmentBenchmark {
+
+  @Param({"1", "4", "7", "12", "16", "20", "27", "32"})
+  int bitsPerValue;
+
+  private Arena arena;
+  private MemorySegment segment;
+  private int[] packed;
+  private int[] intsOutput = new int[128];
+
+  @Setup(Level.Trial)
+  public void init() {
+    int[] ints = new int[128];
+    for (int i = 0; i < 128; i++) {
+      ints[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bitsPerValue);
+    }
+    packed = new int[bitsPerValue * 4];
+    SimdBitPacking.simdPack(ints, packed, bitsPerValue);
+    arena = Arena.ofShared();
+    segment = arena.allocate(packed.length * 4L, 64);
+    MemorySegment.copy(packed, 0, segment, ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), 0, packed.length);
+  }
+
+  @TearDown(Level.Trial)
+  public void close() {
+    arena.close();
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackSegment() {
+    SimdBitPacking.simdUnpack(segment, 0, ByteOrder.LITTLE_ENDIAN, intsOutput, bitsPerValue);
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] copyAndUnpack() {
+    MemorySegment.copy(segment, ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), 0, packed, 0, packed.length);
+    SimdBitPacking.simdUnpack(packed, intsOutput, bitsPerValue);
+    return intsOutput;
+  }
+}
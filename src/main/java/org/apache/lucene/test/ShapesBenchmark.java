@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Compares the code shapes emitted by gen_SimdBitPacking.py
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class ShapesBenchmark {
+
+  @Param({"1", "4", "7", "12", "16", "20", "27", "32"})
+  int bitsPerValue;
+
+  private int[] ints;
+  private int[] packed;
+  private int[] intsOutput = new int[128];
+
+  @Setup(Level.Trial)
+  public void init() {
+    ints = new int[128];
+    for (int i = 0; i < 128; i++) {
+      ints[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bitsPerValue);
+    }
+    packed = new int[bitsPerValue * 4];
+    SimdBitPacking.simdPack(ints, packed, bitsPerValue);
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] packUnrolled() {
+    SimdBitPacking.simdPack(ints, packed, bitsPerValue);
+    return packed;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] packLoop() {
+    SimdBitPackingLoop.simdPack(ints, packed, bitsPerValue);
+    return packed;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] packTable() {
+    SimdBitPackingTable.simdPack(ints, packed, bitsPerValue);
+    return packed;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackUnrolled() {
+    SimdBitPacking.simdUnpack(packed, intsOutput, bitsPerValue);
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackLoop() {
+    SimdBitPackingLoop.simdUnpack(packed, intsOutput, bitsPerValue);
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackTable() {
+    SimdBitPackingTable.simdUnpack(packed, intsOutput, bitsPerValue);
+    return intsOutput;
+  }
+}
@@ -0,0 +1,13875 @@
+// This file has been automatically generated, DO NOT EDIT
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.util.Arrays;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Supports packing and unpacking integers arrays of 512 elements, using 512
+ * bit vectors with 16 int lanes.
+ *
+ * This is the layout of {@link SimdBitPacking}, widened to 16 lanes: value {@code i} of a block
+ * is stored in lane {@code i % 16}, at bit offset {@code (i / 16) * bit} of that lane's
+ * stream of ints. A block packed with {@code bit} bits per value takes {@code bit * 16} ints.
+ * Blocks are not compatible with those of other vector sizes, see {@link PreferredSimdBitPacking}.
+ */
+public class SimdBitPacking512 {
+
+  static final int BLOCK_SIZE = 512;
+
+  // simdpackwithoutmask(const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Assumes that integers fit in the prescribed number of bits, which may be 0 */
+  static void simdPack(int[] input, int[] output, int bit) {
+    simdPack(input, 0, output, 0, bit);
+  }
+
+  /* Like simdPack, but reads the 512 integers from input at inOffset and writes the packed block
+     to output at outOffset, so that slices of larger arrays can be packed without copying them */
+  static void simdPack(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (bit) {
+      case 0: return;
+      case 1: SIMD_fastPack1(input, inOffset, output, outOffset); return;
+      case 2: SIMD_fastPack2(input, inOffset, output, outOffset); return;
+      case 3: SIMD_fastPack3(input, inOffset, output, outOffset); return;
+      case 4: SIMD_fastPack4(input, inOffset, output, outOffset); return;
+      case 5: SIMD_fastPack5(input, inOffset, output, outOffset); return;
+      case 6: SIMD_fastPack6(input, inOffset, output, outOffset); return;
+      case 7: SIMD_fastPack7(input, inOffset, output, outOffset); return;
+      case 8: SIMD_fastPack8(input, inOffset, output, outOffset); return;
+      case 9: SIMD_fastPack9(input, inOffset, output, outOffset); return;
+      case 10: SIMD_fastPack10(input, inOffset, output, outOffset); return;
+      case 11: SIMD_fastPack11(input, inOffset, output, outOffset); return;
+      case 12: SIMD_fastPack12(input, inOffset, output, outOffset); return;
+      case 13: SIMD_fastPack13(input, inOffset, output, outOffset); return;
+      case 14: SIMD_fastPack14(input, inOffset, output, outOffset); return;
+      case 15: SIMD_fastPack15(input, inOffset, output, outOffset); return;
+      case 16: SIMD_fastPack16(input, inOffset, output, outOffset); return;
+      case 17: SIMD_fastPack17(input, inOffset, output, outOffset); return;
+      case 18: SIMD_fastPack18(input, inOffset, output, outOffset); return;
+      case 19: SIMD_fastPack19(input, inOffset, output, outOffset); return;
+      case 20: SIMD_fastPack20(input, inOffset, output, outOffset); return;
+      case 21: SIMD_fastPack21(input, inOffset, output, outOffset); return;
+      case 22: SIMD_fastPack22(input, inOffset, output, outOffset); return;
+      case 23: SIMD_fastPack23(input, inOffset, output, outOffset); return;
+      case 24: SIMD_fastPack24(input, inOffset, output, outOffset); return;
+      case 25: SIMD_fastPack25(input, inOffset, output, outOffset); return;
+      case 26: SIMD_fastPack26(input, inOffset, output, outOffset); return;
+      case 27: SIMD_fastPack27(input, inOffset, output, outOffset); return;
+      case 28: SIMD_fastPack28(input, inOffset, output, outOffset); return;
+      case 29: SIMD_fastPack29(input, inOffset, output, outOffset); return;
+      case 30: SIMD_fastPack30(input, inOffset, output, outOffset); return;
+      case 31: SIMD_fastPack31(input, inOffset, output, outOffset); return;
+      case 32: SIMD_fastPack32(input, inOffset, output, outOffset); return;
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  // simdpack(const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Like simdPack, but only packs the low bit bits of each integer, higher bits are ignored */
+  static void simdPackWithMask(int[] input, int[] output, int bit) {
+    simdPackWithMask(input, 0, output, 0, bit);
+  }
+
+  /* Like simdPackWithMask, but reads the 512 integers from input at inOffset and writes the packed block
+     to output at outOffset */
+  static void simdPackWithMask(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (bit) {
+      case 0: return;
+      case 1: SIMD_fastPackWithMask1(input, inOffset, output, outOffset); return;
+      case 2: SIMD_fastPackWithMask2(input, inOffset, output, outOffset); return;
+      case 3: SIMD_fastPackWithMask3(input, inOffset, output, outOffset); return;
+      case 4: SIMD_fastPackWithMask4(input, inOffset, output, outOffset); return;
+      case 5: SIMD_fastPackWithMask5(input, inOffset, output, outOffset); return;
+      case 6: SIMD_fastPackWithMask6(input, inOffset, output, outOffset); return;
+      case 7: SIMD_fastPackWithMask7(input, inOffset, output, outOffset); return;
+      case 8: SIMD_fastPackWithMask8(input, inOffset, output, outOffset); return;
+      case 9: SIMD_fastPackWithMask9(input, inOffset, output, outOffset); return;
+      case 10: SIMD_fastPackWithMask10(input, inOffset, output, outOffset); return;
+      case 11: SIMD_fastPackWithMask11(input, inOffset, output, outOffset); return;
+      case 12: SIMD_fastPackWithMask12(input, inOffset, output, outOffset); return;
+      case 13: SIMD_fastPackWithMask13(input, inOffset, output, outOffset); return;
+      case 14: SIMD_fastPackWithMask14(input, inOffset, output, outOffset); return;
+      case 15: SIMD_fastPackWithMask15(input, inOffset, output, outOffset); return;
+      case 16: SIMD_fastPackWithMask16(input, inOffset, output, outOffset); return;
+      case 17: SIMD_fastPackWithMask17(input, inOffset, output, outOffset); return;
+      case 18: SIMD_fastPackWithMask18(input, inOffset, output, outOffset); return;
+      case 19: SIMD_fastPackWithMask19(input, inOffset, output, outOffset); return;
+      case 20: SIMD_fastPackWithMask20(input, inOffset, output, outOffset); return;
+      case 21: SIMD_fastPackWithMask21(input, inOffset, output, outOffset); return;
+      case 22: SIMD_fastPackWithMask22(input, inOffset, output, outOffset); return;
+      case 23: SIMD_fastPackWithMask23(input, inOffset, output, outOffset); return;
+      case 24: SIMD_fastPackWithMask24(input, inOffset, output, outOffset); return;
+      case 25: SIMD_fastPackWithMask25(input, inOffset, output, outOffset); return;
+      case 26: SIMD_fastPackWithMask26(input, inOffset, output, outOffset); return;
+      case 27: SIMD_fastPackWithMask27(input, inOffset, output, outOffset); return;
+      case 28: SIMD_fastPackWithMask28(input, inOffset, output, outOffset); return;
+      case 29: SIMD_fastPackWithMask29(input, inOffset, output, outOffset); return;
+      case 30: SIMD_fastPackWithMask30(input, inOffset, output, outOffset); return;
+      case 31: SIMD_fastPackWithMask31(input, inOffset, output, outOffset); return;
+      case 32: SIMD_fastPackWithMask32(input, inOffset, output, outOffset); return;
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  // void simdunpack(const __m128i *in, uint32_t *out, const uint32_t bit) {
+  static void simdUnpack(int[] input, int[] output, int bit) {
+    simdUnpack(input, 0, output, 0, bit);
+  }
+
+  /* Like simdUnpack, but reads the packed block from input at inOffset and writes the 512 integers
+     to output at outOffset, so that consecutive blocks can be unpacked back to back into one array */
+  static void simdUnpack(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (bit) {
+      case 0:
+        for (int i = 0; i < 512; i += 16) {
+          IntVector.zero(SPECIES_512).intoArray(output, outOffset + i);
+        }
+        return;
+      case 1: SIMD_fastUnpack1(input, inOffset, output, outOffset); return;
+      case 2: SIMD_fastUnpack2(input, inOffset, output, outOffset); return;
+      case 3: SIMD_fastUnpack3(input, inOffset, output, outOffset); return;
+      case 4: SIMD_fastUnpack4(input, inOffset, output, outOffset); return;
+      case 5: SIMD_fastUnpack5(input, inOffset, output, outOffset); return;
+      case 6: SIMD_fastUnpack6(input, inOffset, output, outOffset); return;
+      case 7: SIMD_fastUnpack7(input, inOffset, output, outOffset); return;
+      case 8: SIMD_fastUnpack8(input, inOffset, output, outOffset); return;
+      case 9: SIMD_fastUnpack9(input, inOffset, output, outOffset); return;
+      case 10: SIMD_fastUnpack10(input, inOffset, output, outOffset); return;
+      case 11: SIMD_fastUnpack11(input, inOffset, output, outOffset); return;
+      case 12: SIMD_fastUnpack12(input, inOffset, output, outOffset); return;
+      case 13: SIMD_fastUnpack13(input, inOffset, output, outOffset); return;
+      case 14: SIMD_fastUnpack14(input, inOffset, output, outOffset); return;
+      case 15: SIMD_fastUnpack15(input, inOffset, output, outOffset); return;
+      case 16: SIMD_fastUnpack16(input, inOffset, output, outOffset); return;
+      case 17: SIMD_fastUnpack17(input, inOffset, output, outOffset); return;
+      case 18: SIMD_fastUnpack18(input, inOffset, output, outOffset); return;
+      case 19: SIMD_fastUnpack19(input, inOffset, output, outOffset); return;
+      case 20: SIMD_fastUnpack20(input, inOffset, output, outOffset); return;
+      case 21: SIMD_fastUnpack21(input, inOffset, output, outOffset); return;
+      case 22: SIMD_fastUnpack22(input, inOffset, output, outOffset); return;
+      case 23: SIMD_fastUnpack23(input, inOffset, output, outOffset); return;
+      case 24: SIMD_fastUnpack24(input, inOffset, output, outOffset); return;
+      case 25: SIMD_fastUnpack25(input, inOffset, output, outOffset); return;
+      case 26: SIMD_fastUnpack26(input, inOffset, output, outOffset); return;
+      case 27: SIMD_fastUnpack27(input, inOffset, output, outOffset); return;
+      case 28: SIMD_fastUnpack28(input, inOffset, output, outOffset); return;
+      case 29: SIMD_fastUnpack29(input, inOffset, output, outOffset); return;
+      case 30: SIMD_fastUnpack30(input, inOffset, output, outOffset); return;
+      case 31: SIMD_fastUnpack31(input, inOffset, output, outOffset); return;
+      case 32: SIMD_fastUnpack32(input, inOffset, output, outOffset); return;
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final VectorSpecies<Integer> SPECIES_512 = IntVector.SPECIES_512;
+
+  /* Unpacks numBlocks blocks that are stored back to back in input, starting at inOffset, block i being packed with
+     bits[i] bits per value, into output at outOffset, 512 integers per block. Runs of consecutive blocks with
+     the same bits per value go through a single switch, and then through the same kernel one block after the other */
+  static void simdUnpackBlocks(int[] input, int inOffset, int[] bits, int numBlocks, int[] output, int outOffset) {
+    int block = 0;
+    while (block < numBlocks) {
+      final int bit = bits[block];
+      int runEnd = block + 1;
+      while (runEnd < numBlocks && bits[runEnd] == bit) {
+        runEnd++;
+      }
+      final int runLength = runEnd - block;
+      switch (bit) {
+        case 0:
+          for (int i = 0; i < runLength * 512; i += 16) {
+            IntVector.zero(SPECIES_512).intoArray(output, outOffset + i);
+          }
+          break;
+        case 1:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack1(input, inOffset + i * 16, output, outOffset + i * 512);
+          }
+          break;
+        case 2:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack2(input, inOffset + i * 32, output, outOffset + i * 512);
+          }
+          break;
+        case 3:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack3(input, inOffset + i * 48, output, outOffset + i * 512);
+          }
+          break;
+        case 4:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack4(input, inOffset + i * 64, output, outOffset + i * 512);
+          }
+          break;
+        case 5:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack5(input, inOffset + i * 80, output, outOffset + i * 512);
+          }
+          break;
+        case 6:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack6(input, inOffset + i * 96, output, outOffset + i * 512);
+          }
+          break;
+        case 7:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack7(input, inOffset + i * 112, output, outOffset + i * 512);
+          }
+          break;
+        case 8:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack8(input, inOffset + i * 128, output, outOffset + i * 512);
+          }
+          break;
+        case 9:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack9(input, inOffset + i * 144, output, outOffset + i * 512);
+          }
+          break;
+        case 10:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack10(input, inOffset + i * 160, output, outOffset + i * 512);
+          }
+          break;
+        case 11:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack11(input, inOffset + i * 176, output, outOffset + i * 512);
+          }
+          break;
+        case 12:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack12(input, inOffset + i * 192, output, outOffset + i * 512);
+          }
+          break;
+        case 13:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack13(input, inOffset + i * 208, output, outOffset + i * 512);
+          }
+          break;
+        case 14:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack14(input, inOffset + i * 224, output, outOffset + i * 512);
+          }
+          break;
+        case 15:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack15(input, inOffset + i * 240, output, outOffset + i * 512);
+          }
+          break;
+        case 16:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack16(input, inOffset + i * 256, output, outOffset + i * 512);
+          }
+          break;
+        case 17:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack17(input, inOffset + i * 272, output, outOffset + i * 512);
+          }
+          break;
+        case 18:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack18(input, inOffset + i * 288, output, outOffset + i * 512);
+          }
+          break;
+        case 19:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack19(input, inOffset + i * 304, output, outOffset + i * 512);
+          }
+          break;
+        case 20:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack20(input, inOffset + i * 320, output, outOffset + i * 512);
+          }
+          break;
+        case 21:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack21(input, inOffset + i * 336, output, outOffset + i * 512);
+          }
+          break;
+        case 22:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack22(input, inOffset + i * 352, output, outOffset + i * 512);
+          }
+          break;
+        case 23:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack23(input, inOffset + i * 368, output, outOffset + i * 512);
+          }
+          break;
+        case 24:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack24(input, inOffset + i * 384, output, outOffset + i * 512);
+          }
+          break;
+        case 25:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack25(input, inOffset + i * 400, output, outOffset + i * 512);
+          }
+          break;
+        case 26:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack26(input, inOffset + i * 416, output, outOffset + i * 512);
+          }
+          break;
+        case 27:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack27(input, inOffset + i * 432, output, outOffset + i * 512);
+          }
+          break;
+        case 28:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack28(input, inOffset + i * 448, output, outOffset + i * 512);
+          }
+          break;
+        case 29:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack29(input, inOffset + i * 464, output, outOffset + i * 512);
+          }
+          break;
+        case 30:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack30(input, inOffset + i * 480, output, outOffset + i * 512);
+          }
+          break;
+        case 31:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack31(input, inOffset + i * 496, output, outOffset + i * 512);
+          }
+          break;
+        case 32:
+          for (int i = 0; i < runLength; i++) {
+            SIMD_fastUnpack32(input, inOffset + i * 512, output, outOffset + i * 512);
+          }
+          break;
+        default : throw new UnsupportedOperationException();
+      }
+      inOffset += runLength * bit * 16;
+      outOffset += runLength * 512;
+      block = runEnd;
+    }
+  }
+
+  // maxbits(const uint32_t *begin)
+  /* Returns the number of bits that simdPack needs to pack the 512 integers, 0 - 32 */
+  static int simdMaxBits(int[] input) {
+    IntVector accumulator = IntVector.fromArray(SPECIES_512, input, 0);
+    for (int i = 16; i < 512; i += 16) {
+      accumulator = accumulator.or(IntVector.fromArray(SPECIES_512, input, i));
+    }
+    return 32 - Integer.numberOfLeadingZeros(accumulator.reduceLanes(VectorOperators.OR));
+  }
+
+  /* Returns value index of a block packed with bit bits per value, without unpacking the block */
+  static int simdGet(int[] input, int bit, int index) {
+    return simdGet(input, 0, bit, index);
+  }
+
+  /* Like simdGet, but reads the packed block from input at inOffset. Value index sits in lane index % 16, at bit
+     offset (index / 16) * bit of that lane's stream of ints, so it spans at most two ints of that lane */
+  static int simdGet(int[] input, int inOffset, int bit, int index) {
+    if (bit == 0) {
+      return 0;
+    }
+    final int bitOffset = (index >>> 4) * bit;
+    final int word = inOffset + ((bitOffset >>> 5) << 4) + (index & 15);
+    final int shift = bitOffset & 31;
+    long bits = input[word] & 0xFFFFFFFFL;
+    if (shift + bit > 32) {
+      bits |= (long) input[word + 16] << 32;
+    }
+    return (int) (bits >>> shift) & (int) (0xFFFFFFFFL >>> (32 - bit));
+  }
+
+  /* Like simdGet, for the count indices of indices, written to output. Each vector of indices takes two gathers: the
+     ints that the values start in, and the next ints of their lanes, which the values that cross into them need.
+     The word indices of the gathers are staged in output, where the values then go, so that no scratch is needed */
+  static void simdGetMany(int[] input, int inOffset, int bit, int[] indices, int count, int[] output) {
+    if (bit == 0) {
+      Arrays.fill(output, 0, count, 0);
+      return;
+    }
+    final int valueMask = (int) (0xFFFFFFFFL >>> (32 - bit));
+    int i = 0;
+    for (; i < SPECIES_512.loopBound(count); i += 16) {
+      final IntVector index = IntVector.fromArray(SPECIES_512, indices, i);
+      final IntVector bitOffset = index.lanewise(VectorOperators.LSHR, 4).mul(bit);
+      final IntVector word = bitOffset.lanewise(VectorOperators.LSHR, 5).lanewise(VectorOperators.LSHL, 4)
+          .add(index.and(15));
+      final IntVector shift = bitOffset.and(31);
+      final VectorMask<Integer> crosses = shift.add(bit).compare(VectorOperators.GT, 32);
+      word.intoArray(output, i);
+      final IntVector low = IntVector.fromArray(SPECIES_512, input, inOffset, output, i);
+      // Gathers range-check masked off lanes too, so the lanes that don't cross load their own int again rather than
+      // the next one, which may be past the block, and are then zeroed. That also covers shift 0, where 32 - shift
+      // wraps around to a shift of 0
+      word.add(16, crosses).intoArray(output, i);
+      final IntVector high = IntVector.fromArray(SPECIES_512, input, inOffset, output, i).blend(0, crosses.not());
+      low.lanewise(VectorOperators.LSHR, shift)
+          .or(high.lanewise(VectorOperators.LSHL, shift.neg().add(32)))
+          .and(valueMask)
+          .intoArray(output, i);
+    }
+    for (; i < count; i++) {
+      output[i] = simdGet(input, inOffset, bit, indices[i]);
+    }
+  }
+
+  // SIMD_fastpackwithoutmask1_32
+  static void SIMD_fastPack1(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask2_32
+  static void SIMD_fastPack2(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask3_32
+  static void SIMD_fastPack3(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask4_32
+  static void SIMD_fastPack4(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask5_32
+  static void SIMD_fastPack5(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask6_32
+  static void SIMD_fastPack6(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask7_32
+  static void SIMD_fastPack7(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask8_32
+  static void SIMD_fastPack8(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask9_32
+  static void SIMD_fastPack9(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask10_32
+  static void SIMD_fastPack10(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask11_32
+  static void SIMD_fastPack11(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask12_32
+  static void SIMD_fastPack12(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask13_32
+  static void SIMD_fastPack13(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask14_32
+  static void SIMD_fastPack14(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask15_32
+  static void SIMD_fastPack15(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask16_32
+  static void SIMD_fastPack16(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask17_32
+  static void SIMD_fastPack17(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask18_32
+  static void SIMD_fastPack18(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask19_32
+  static void SIMD_fastPack19(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask20_32
+  static void SIMD_fastPack20(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask21_32
+  static void SIMD_fastPack21(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask22_32
+  static void SIMD_fastPack22(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask23_32
+  static void SIMD_fastPack23(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask24_32
+  static void SIMD_fastPack24(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask25_32
+  static void SIMD_fastPack25(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask26_32
+  static void SIMD_fastPack26(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask27_32
+  static void SIMD_fastPack27(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask28_32
+  static void SIMD_fastPack28(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask29_32
+  static void SIMD_fastPack29(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask30_32
+  static void SIMD_fastPack30(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask31_32
+  static void SIMD_fastPack31(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // SIMD_fastpackwithoutmask32_32
+  static void SIMD_fastPack32(int[] input, int inOffset, int[] output, int outOffset) {
+    for (int i = 0; i < 512; i += 16) {
+      IntVector.fromArray(SPECIES_512, input, inOffset + i).intoArray(output, outOffset + i);
+    }
+  }
+
+  // __SIMD_fastpack1_32
+  static void SIMD_fastPackWithMask1(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 1) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack2_32
+  static void SIMD_fastPackWithMask2(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 2) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack3_32
+  static void SIMD_fastPackWithMask3(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 3) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack4_32
+  static void SIMD_fastPackWithMask4(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 4) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack5_32
+  static void SIMD_fastPackWithMask5(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 5) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack6_32
+  static void SIMD_fastPackWithMask6(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 6) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack7_32
+  static void SIMD_fastPackWithMask7(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 7) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack8_32
+  static void SIMD_fastPackWithMask8(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 8) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack9_32
+  static void SIMD_fastPackWithMask9(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 9) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack10_32
+  static void SIMD_fastPackWithMask10(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 10) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack11_32
+  static void SIMD_fastPackWithMask11(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 11) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack12_32
+  static void SIMD_fastPackWithMask12(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 12) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack13_32
+  static void SIMD_fastPackWithMask13(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 13) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack14_32
+  static void SIMD_fastPackWithMask14(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 14) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack15_32
+  static void SIMD_fastPackWithMask15(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 15) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack16_32
+  static void SIMD_fastPackWithMask16(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 16) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack17_32
+  static void SIMD_fastPackWithMask17(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 17) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack18_32
+  static void SIMD_fastPackWithMask18(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 18) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack19_32
+  static void SIMD_fastPackWithMask19(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 19) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack20_32
+  static void SIMD_fastPackWithMask20(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 20) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack21_32
+  static void SIMD_fastPackWithMask21(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 21) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack22_32
+  static void SIMD_fastPackWithMask22(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 22) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack23_32
+  static void SIMD_fastPackWithMask23(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 23) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack24_32
+  static void SIMD_fastPackWithMask24(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 24) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack25_32
+  static void SIMD_fastPackWithMask25(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 25) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack26_32
+  static void SIMD_fastPackWithMask26(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 26) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack27_32
+  static void SIMD_fastPackWithMask27(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 27) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack28_32
+  static void SIMD_fastPackWithMask28(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 28) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack29_32
+  static void SIMD_fastPackWithMask29(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 29) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack30_32
+  static void SIMD_fastPackWithMask30(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 30) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack31_32
+  static void SIMD_fastPackWithMask31(int[] input, int inOffset, int[] output, int outOffset) {
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 31) - 1;
+
+    IntVector outVec;
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOff).and(mask);
+
+    outVec = inVec;
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 31).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 30).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 29).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 28).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 27).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 26).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 25).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 24).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 23).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 22).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 21).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 20).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 19).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 18).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 17).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 16).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 15).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 14).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 13).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 12).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 11).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 10).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 9).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 8).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 7).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 6).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 5).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 4).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 3).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 2).or(outVec);
+    outVec.intoArray(output, outOff);
+    outOff+=16;
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31 - 1);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16).and(mask);
+
+    outVec = inVec.lanewise(VectorOperators.LSHL, 1).or(outVec);
+    outVec.intoArray(output, outOff);
+  }
+
+  // __SIMD_fastpack32_32
+  static void SIMD_fastPackWithMask32(int[] input, int inOffset, int[] output, int outOffset) {
+    for (int i = 0; i < 512; i += 16) {
+      IntVector.fromArray(SPECIES_512, input, inOffset + i).intoArray(output, outOffset + i);
+    }
+  }
+
+  // __SIMD_fastunpack1_32
+  static void SIMD_fastUnpack1(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 1) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack2_32
+  static void SIMD_fastUnpack2(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 2) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack3_32
+  static void SIMD_fastUnpack3(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 3) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 3 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 3 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack4_32
+  static void SIMD_fastUnpack4(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 4) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack5_32
+  static void SIMD_fastUnpack5(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 5) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 5 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 5 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 5 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 5 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack6_32
+  static void SIMD_fastUnpack6(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 6) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 6 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 6 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 6 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 6 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack7_32
+  static void SIMD_fastUnpack7(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 7) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 7 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 7 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 7 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 7 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 7 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 7 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack8_32
+  static void SIMD_fastUnpack8(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 8) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack9_32
+  static void SIMD_fastUnpack9(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 9) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack10_32
+  static void SIMD_fastUnpack10(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 10) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack11_32
+  static void SIMD_fastUnpack11(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 11) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack12_32
+  static void SIMD_fastUnpack12(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 12) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack13_32
+  static void SIMD_fastUnpack13(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 13) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack14_32
+  static void SIMD_fastUnpack14(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 14) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack15_32
+  static void SIMD_fastUnpack15(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 15) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack16_32
+  static void SIMD_fastUnpack16(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 16) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack17_32
+  static void SIMD_fastUnpack17(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 17) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack18_32
+  static void SIMD_fastUnpack18(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 18) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack19_32
+  static void SIMD_fastUnpack19(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 19) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 17).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack20_32
+  static void SIMD_fastUnpack20(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 20) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack21_32
+  static void SIMD_fastUnpack21(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 21) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 19).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 17).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack22_32
+  static void SIMD_fastUnpack22(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 22) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack23_32
+  static void SIMD_fastUnpack23(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 23) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 19).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 21).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 17).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack24_32
+  static void SIMD_fastUnpack24(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 24) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack25_32
+  static void SIMD_fastUnpack25(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 25) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 19).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 23).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 17).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 21).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack26_32
+  static void SIMD_fastUnpack26(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 26) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack27_32
+  static void SIMD_fastUnpack27(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 27) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 17).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 19).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 26).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 21).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 23).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 25).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack28_32
+  static void SIMD_fastUnpack28(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 28) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack29_32
+  static void SIMD_fastUnpack29(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 29) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 26).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 23).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 17).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 28).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 25).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 19).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1).and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 27).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 21).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack30_32
+  static void SIMD_fastUnpack30(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 30) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 28).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 26).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2);
+    outVec.intoArray(output, outOff+=16);
+
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 28).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 26).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack31_32
+  static void SIMD_fastUnpack31(int[] input, int inOffset, int[] output, int outOffset) {
+    IntVector inVec = IntVector.fromArray(SPECIES_512, input, inOffset);
+    IntVector outVec;
+    int inOff = inOffset;
+    int outOff = outOffset;
+    final int mask = (1 << 31) - 1;
+
+    outVec = inVec.and(mask);
+    outVec.intoArray(output, outOff);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 31);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 30).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 30);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 29).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 29);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 28).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 28);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 27).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 27);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 26).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 26);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 25).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 25);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 24).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 24);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 23).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 23);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 22).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 22);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 21).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 21);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 20).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 20);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 19).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 19);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 18).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 18);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 17).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 17);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 16).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 16);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 15).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 15);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 14).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 14);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 13).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 13);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 12).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 12);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 11).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 11);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 10).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 10);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 9).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 9);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 8).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 8);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 7).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 7);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 6).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 6);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 5).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 5);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 4).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 4);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 3).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 3);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 2).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 2);
+    inVec = IntVector.fromArray(SPECIES_512, input, inOff+=16);
+    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - 1).and(mask));
+    outVec.intoArray(output, outOff+=16);
+
+    outVec = inVec.lanewise(VectorOperators.LSHR, 1);
+    outVec.intoArray(output, outOff+=16);
+  }
+
+  // __SIMD_fastunpack32_32
+  static void SIMD_fastUnpack32(int[] input, int inOffset, int[] output, int outOffset) {
+    for (int i = 0; i < 512; i += 16) {
+      IntVector.fromArray(SPECIES_512, input, inOffset + i).intoArray(output, outOffset + i);
+    }
+  }
+}
@@ -0,0 +1,1210 @@
+// This file has been automatically generated, DO NOT EDIT
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Same layout as {@link SimdBitPacking}, but each kernel iterates over the 32 rows of the block
+ * rather than being fully unrolled, which leaves unrolling decisions to the JIT.
+ */
+public class SimdBitPackingLoop {
+
+  static final int BLOCK_SIZE = 128;
+
+  // simdpackwithoutmask(const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Assumes that integers fit in the prescribed number of bits */
+  static void simdPack(int[] input, int[] output, int bit) {
+    switch (bit) {
+      case 1: SIMD_fastPack1(input, output); return;
+      case 2: SIMD_fastPack2(input, output); return;
+      case 3: SIMD_fastPack3(input, output); return;
+      case 4: SIMD_fastPack4(input, output); return;
+      case 5: SIMD_fastPack5(input, output); return;
+      case 6: SIMD_fastPack6(input, output); return;
+      case 7: SIMD_fastPack7(input, output); return;
+      case 8: SIMD_fastPack8(input, output); return;
+      case 9: SIMD_fastPack9(input, output); return;
+      case 10: SIMD_fastPack10(input, output); return;
+      case 11: SIMD_fastPack11(input, output); return;
+      case 12: SIMD_fastPack12(input, output); return;
+      case 13: SIMD_fastPack13(input, output); return;
+      case 14: SIMD_fastPack14(input, output); return;
+      case 15: SIMD_fastPack15(input, output); return;
+      case 16: SIMD_fastPack16(input, output); return;
+      case 17: SIMD_fastPack17(input, output); return;
+      case 18: SIMD_fastPack18(input, output); return;
+      case 19: SIMD_fastPack19(input, output); return;
+      case 20: SIMD_fastPack20(input, output); return;
+      case 21: SIMD_fastPack21(input, output); return;
+      case 22: SIMD_fastPack22(input, output); return;
+      case 23: SIMD_fastPack23(input, output); return;
+      case 24: SIMD_fastPack24(input, output); return;
+      case 25: SIMD_fastPack25(input, output); return;
+      case 26: SIMD_fastPack26(input, output); return;
+      case 27: SIMD_fastPack27(input, output); return;
+      case 28: SIMD_fastPack28(input, output); return;
+      case 29: SIMD_fastPack29(input, output); return;
+      case 30: SIMD_fastPack30(input, output); return;
+      case 31: SIMD_fastPack31(input, output); return;
+      case 32: SIMD_fastPack32(input, output); return;
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  // void simdunpack(const __m128i *in, uint32_t *out, const uint32_t bit) {
+  static void simdUnpack(int[] input, int[] output, int bit) {
+    switch (bit) {
+      case 1: SIMD_fastUnpack1(input, output); return;
+      case 2: SIMD_fastUnpack2(input, output); return;
+      case 3: SIMD_fastUnpack3(input, output); return;
+      case 4: SIMD_fastUnpack4(input, output); return;
+      case 5: SIMD_fastUnpack5(input, output); return;
+      case 6: SIMD_fastUnpack6(input, output); return;
+      case 7: SIMD_fastUnpack7(input, output); return;
+      case 8: SIMD_fastUnpack8(input, output); return;
+      case 9: SIMD_fastUnpack9(input, output); return;
+      case 10: SIMD_fastUnpack10(input, output); return;
+      case 11: SIMD_fastUnpack11(input, output); return;
+      case 12: SIMD_fastUnpack12(input, output); return;
+      case 13: SIMD_fastUnpack13(input, output); return;
+      case 14: SIMD_fastUnpack14(input, output); return;
+      case 15: SIMD_fastUnpack15(input, output); return;
+      case 16: SIMD_fastUnpack16(input, output); return;
+      case 17: SIMD_fastUnpack17(input, output); return;
+      case 18: SIMD_fastUnpack18(input, output); return;
+      case 19: SIMD_fastUnpack19(input, output); return;
+      case 20: SIMD_fastUnpack20(input, output); return;
+      case 21: SIMD_fastUnpack21(input, output); return;
+      case 22: SIMD_fastUnpack22(input, output); return;
+      case 23: SIMD_fastUnpack23(input, output); return;
+      case 24: SIMD_fastUnpack24(input, output); return;
+      case 25: SIMD_fastUnpack25(input, output); return;
+      case 26: SIMD_fastUnpack26(input, output); return;
+      case 27: SIMD_fastUnpack27(input, output); return;
+      case 28: SIMD_fastUnpack28(input, output); return;
+      case 29: SIMD_fastUnpack29(input, output); return;
+      case 30: SIMD_fastUnpack30(input, output); return;
+      case 31: SIMD_fastUnpack31(input, output); return;
+      case 32: SIMD_fastUnpack32(input, output); return;
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final VectorSpecies<Integer> SPECIES_128 = IntVector.SPECIES_128;
+
+  static void SIMD_fastPack1(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 1;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 1 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack2(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 2;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 2 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack3(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 3;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 3 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack4(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 4;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 4 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack5(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 5;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 5 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack6(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 6;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 6 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack7(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 7;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 7 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack8(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 8;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 8 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack9(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 9;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 9 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack10(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 10;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 10 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack11(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 11;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 11 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack12(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 12;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 12 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack13(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 13;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 13 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack14(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 14;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 14 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack15(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 15;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 15 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack16(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 16;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 16 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack17(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 17;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 17 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack18(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 18;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 18 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack19(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 19;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 19 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack20(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 20;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 20 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack21(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 21;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 21 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack22(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 22;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 22 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack23(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 23;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 23 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack24(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 24;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 24 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack25(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 25;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 25 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack26(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 26;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 26 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack27(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 27;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 27 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack28(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 28;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 28 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack29(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 29;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 29 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack30(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 30;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 30 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack31(int[] input, int[] output) {
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    int outOff = 0;
+    int shift = 0;
+    for (int inOff = 0; inOff < 128; inOff += 4) {
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      shift += 31;
+      if (shift >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        shift -= 32;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 31 - shift);
+      }
+    }
+  }
+
+  static void SIMD_fastPack32(int[] input, int[] output) {
+    for (int i = 0; i < 128; i += 4) {
+      IntVector.fromArray(SPECIES_128, input, i).intoArray(output, i);
+    }
+  }
+
+  static void SIMD_fastUnpack1(int[] input, int[] output) {
+    final int mask = (1 << 1) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 1;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 1 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 31).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack2(int[] input, int[] output) {
+    final int mask = (1 << 2) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 2;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 2 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 30).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack3(int[] input, int[] output) {
+    final int mask = (1 << 3) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 3;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 3 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 29).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack4(int[] input, int[] output) {
+    final int mask = (1 << 4) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 4;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 4 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 28).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack5(int[] input, int[] output) {
+    final int mask = (1 << 5) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 5;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 5 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 27).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack6(int[] input, int[] output) {
+    final int mask = (1 << 6) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 6;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 6 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 26).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack7(int[] input, int[] output) {
+    final int mask = (1 << 7) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 7;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 7 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 25).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack8(int[] input, int[] output) {
+    final int mask = (1 << 8) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 8;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 8 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 24).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack9(int[] input, int[] output) {
+    final int mask = (1 << 9) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 9;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 9 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 23).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack10(int[] input, int[] output) {
+    final int mask = (1 << 10) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 10;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 10 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 22).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack11(int[] input, int[] output) {
+    final int mask = (1 << 11) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 11;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 11 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 21).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack12(int[] input, int[] output) {
+    final int mask = (1 << 12) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 12;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 12 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 20).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack13(int[] input, int[] output) {
+    final int mask = (1 << 13) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 13;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 13 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 19).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack14(int[] input, int[] output) {
+    final int mask = (1 << 14) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 14;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 14 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 18).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack15(int[] input, int[] output) {
+    final int mask = (1 << 15) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 15;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 15 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 17).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack16(int[] input, int[] output) {
+    final int mask = (1 << 16) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 16;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 16 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 16).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack17(int[] input, int[] output) {
+    final int mask = (1 << 17) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 17;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 17 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 15).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack18(int[] input, int[] output) {
+    final int mask = (1 << 18) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 18;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 18 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 14).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack19(int[] input, int[] output) {
+    final int mask = (1 << 19) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 19;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 19 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 13).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack20(int[] input, int[] output) {
+    final int mask = (1 << 20) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 20;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 20 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 12).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack21(int[] input, int[] output) {
+    final int mask = (1 << 21) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 21;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 21 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 11).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack22(int[] input, int[] output) {
+    final int mask = (1 << 22) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 22;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 22 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 10).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack23(int[] input, int[] output) {
+    final int mask = (1 << 23) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 23;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 23 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 9).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack24(int[] input, int[] output) {
+    final int mask = (1 << 24) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 24;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 24 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 8).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack25(int[] input, int[] output) {
+    final int mask = (1 << 25) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 25;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 25 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 7).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack26(int[] input, int[] output) {
+    final int mask = (1 << 26) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 26;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 26 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 6).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack27(int[] input, int[] output) {
+    final int mask = (1 << 27) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 27;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 27 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 5).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack28(int[] input, int[] output) {
+    final int mask = (1 << 28) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 28;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 28 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 4).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack29(int[] input, int[] output) {
+    final int mask = (1 << 29) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 29;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 29 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 3).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack30(int[] input, int[] output) {
+    final int mask = (1 << 30) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 30;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 30 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 2).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack31(int[] input, int[] output) {
+    final int mask = (1 << 31) - 1;
+    int inOff = 0;
+    int shift = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int outOff = 0; outOff < 124; outOff += 4) {
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      shift += 31;
+      if (shift >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        shift -= 32;
+        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 31 - shift));
+      }
+      outVec.and(mask).intoArray(output, outOff);
+    }
+    inVec.lanewise(VectorOperators.LSHR, 1).intoArray(output, 124);
+  }
+
+  static void SIMD_fastUnpack32(int[] input, int[] output) {
+    for (int i = 0; i < 128; i += 4) {
+      IntVector.fromArray(SPECIES_128, input, i).intoArray(output, i);
+    }
+  }
+}
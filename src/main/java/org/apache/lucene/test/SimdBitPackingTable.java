@@ -0,0 +1,125 @@
+// This file has been automatically generated, DO NOT EDIT
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Same layout as {@link SimdBitPacking}, but with a single kernel per direction that is driven by
+ * per bit width shift tables held in constants, rather than by per bit width code.
+ */
+public class SimdBitPackingTable {
+
+  // Number of bits that each of the 32 rows of a block is shifted by within its int, per bit width.
+  private static final byte[][] SHIFTS = {
+    null,
+    { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31 },
+    { 0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30, 0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30 },
+    { 0, 3, 6, 9, 12, 15, 18, 21, 24, 27, 30, 1, 4, 7, 10, 13, 16, 19, 22, 25, 28, 31, 2, 5, 8, 11, 14, 17, 20, 23, 26, 29 },
+    { 0, 4, 8, 12, 16, 20, 24, 28, 0, 4, 8, 12, 16, 20, 24, 28, 0, 4, 8, 12, 16, 20, 24, 28, 0, 4, 8, 12, 16, 20, 24, 28 },
+    { 0, 5, 10, 15, 20, 25, 30, 3, 8, 13, 18, 23, 28, 1, 6, 11, 16, 21, 26, 31, 4, 9, 14, 19, 24, 29, 2, 7, 12, 17, 22, 27 },
+    { 0, 6, 12, 18, 24, 30, 4, 10, 16, 22, 28, 2, 8, 14, 20, 26, 0, 6, 12, 18, 24, 30, 4, 10, 16, 22, 28, 2, 8, 14, 20, 26 },
+    { 0, 7, 14, 21, 28, 3, 10, 17, 24, 31, 6, 13, 20, 27, 2, 9, 16, 23, 30, 5, 12, 19, 26, 1, 8, 15, 22, 29, 4, 11, 18, 25 },
+    { 0, 8, 16, 24, 0, 8, 16, 24, 0, 8, 16, 24, 0, 8, 16, 24, 0, 8, 16, 24, 0, 8, 16, 24, 0, 8, 16, 24, 0, 8, 16, 24 },
+    { 0, 9, 18, 27, 4, 13, 22, 31, 8, 17, 26, 3, 12, 21, 30, 7, 16, 25, 2, 11, 20, 29, 6, 15, 24, 1, 10, 19, 28, 5, 14, 23 },
+    { 0, 10, 20, 30, 8, 18, 28, 6, 16, 26, 4, 14, 24, 2, 12, 22, 0, 10, 20, 30, 8, 18, 28, 6, 16, 26, 4, 14, 24, 2, 12, 22 },
+    { 0, 11, 22, 1, 12, 23, 2, 13, 24, 3, 14, 25, 4, 15, 26, 5, 16, 27, 6, 17, 28, 7, 18, 29, 8, 19, 30, 9, 20, 31, 10, 21 },
+    { 0, 12, 24, 4, 16, 28, 8, 20, 0, 12, 24, 4, 16, 28, 8, 20, 0, 12, 24, 4, 16, 28, 8, 20, 0, 12, 24, 4, 16, 28, 8, 20 },
+    { 0, 13, 26, 7, 20, 1, 14, 27, 8, 21, 2, 15, 28, 9, 22, 3, 16, 29, 10, 23, 4, 17, 30, 11, 24, 5, 18, 31, 12, 25, 6, 19 },
+    { 0, 14, 28, 10, 24, 6, 20, 2, 16, 30, 12, 26, 8, 22, 4, 18, 0, 14, 28, 10, 24, 6, 20, 2, 16, 30, 12, 26, 8, 22, 4, 18 },
+    { 0, 15, 30, 13, 28, 11, 26, 9, 24, 7, 22, 5, 20, 3, 18, 1, 16, 31, 14, 29, 12, 27, 10, 25, 8, 23, 6, 21, 4, 19, 2, 17 },
+    { 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16, 0, 16 },
+    { 0, 17, 2, 19, 4, 21, 6, 23, 8, 25, 10, 27, 12, 29, 14, 31, 16, 1, 18, 3, 20, 5, 22, 7, 24, 9, 26, 11, 28, 13, 30, 15 },
+    { 0, 18, 4, 22, 8, 26, 12, 30, 16, 2, 20, 6, 24, 10, 28, 14, 0, 18, 4, 22, 8, 26, 12, 30, 16, 2, 20, 6, 24, 10, 28, 14 },
+    { 0, 19, 6, 25, 12, 31, 18, 5, 24, 11, 30, 17, 4, 23, 10, 29, 16, 3, 22, 9, 28, 15, 2, 21, 8, 27, 14, 1, 20, 7, 26, 13 },
+    { 0, 20, 8, 28, 16, 4, 24, 12, 0, 20, 8, 28, 16, 4, 24, 12, 0, 20, 8, 28, 16, 4, 24, 12, 0, 20, 8, 28, 16, 4, 24, 12 },
+    { 0, 21, 10, 31, 20, 9, 30, 19, 8, 29, 18, 7, 28, 17, 6, 27, 16, 5, 26, 15, 4, 25, 14, 3, 24, 13, 2, 23, 12, 1, 22, 11 },
+    { 0, 22, 12, 2, 24, 14, 4, 26, 16, 6, 28, 18, 8, 30, 20, 10, 0, 22, 12, 2, 24, 14, 4, 26, 16, 6, 28, 18, 8, 30, 20, 10 },
+    { 0, 23, 14, 5, 28, 19, 10, 1, 24, 15, 6, 29, 20, 11, 2, 25, 16, 7, 30, 21, 12, 3, 26, 17, 8, 31, 22, 13, 4, 27, 18, 9 },
+    { 0, 24, 16, 8, 0, 24, 16, 8, 0, 24, 16, 8, 0, 24, 16, 8, 0, 24, 16, 8, 0, 24, 16, 8, 0, 24, 16, 8, 0, 24, 16, 8 },
+    { 0, 25, 18, 11, 4, 29, 22, 15, 8, 1, 26, 19, 12, 5, 30, 23, 16, 9, 2, 27, 20, 13, 6, 31, 24, 17, 10, 3, 28, 21, 14, 7 },
+    { 0, 26, 20, 14, 8, 2, 28, 22, 16, 10, 4, 30, 24, 18, 12, 6, 0, 26, 20, 14, 8, 2, 28, 22, 16, 10, 4, 30, 24, 18, 12, 6 },
+    { 0, 27, 22, 17, 12, 7, 2, 29, 24, 19, 14, 9, 4, 31, 26, 21, 16, 11, 6, 1, 28, 23, 18, 13, 8, 3, 30, 25, 20, 15, 10, 5 },
+    { 0, 28, 24, 20, 16, 12, 8, 4, 0, 28, 24, 20, 16, 12, 8, 4, 0, 28, 24, 20, 16, 12, 8, 4, 0, 28, 24, 20, 16, 12, 8, 4 },
+    { 0, 29, 26, 23, 20, 17, 14, 11, 8, 5, 2, 31, 28, 25, 22, 19, 16, 13, 10, 7, 4, 1, 30, 27, 24, 21, 18, 15, 12, 9, 6, 3 },
+    { 0, 30, 28, 26, 24, 22, 20, 18, 16, 14, 12, 10, 8, 6, 4, 2, 0, 30, 28, 26, 24, 22, 20, 18, 16, 14, 12, 10, 8, 6, 4, 2 },
+    { 0, 31, 30, 29, 28, 27, 26, 25, 24, 23, 22, 21, 20, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1 },
+    { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+  };
+
+  /* Assumes that integers fit in the prescribed number of bits */
+  static void simdPack(int[] input, int[] output, int bit) {
+    if (bit < 1 || bit > 32) {
+      throw new UnsupportedOperationException();
+    }
+    if (bit == 32) {
+      copy(input, output);
+      return;
+    }
+    final byte[] shifts = SHIFTS[bit];
+    int outOff = 0;
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    for (int i = 0; i < 32; i++) {
+      final int shift = shifts[i];
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, i << 2);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      if (shift + bit >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 32 - shift);
+      }
+    }
+  }
+
+  static void simdUnpack(int[] input, int[] output, int bit) {
+    if (bit < 1 || bit > 32) {
+      throw new UnsupportedOperationException();
+    }
+    if (bit == 32) {
+      copy(input, output);
+      return;
+    }
+    final byte[] shifts = SHIFTS[bit];
+    final int mask = (1 << bit) - 1;
+    int inOff = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int i = 0; i < 31; i++) {
+      final int shift = shifts[i];
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      if (shift + bit >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        if (shift + bit > 32) {
+          outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 32 - shift));
+        }
+      }
+      outVec.and(mask).intoArray(output, i << 2);
+    }
+    inVec.lanewise(VectorOperators.LSHR, shifts[31]).intoArray(output, 124);
+  }
+
+  private static void copy(int[] input, int[] output) {
+    for (int i = 0; i < 128; i += 4) {
+      IntVector.fromArray(SPECIES_128, input, i).intoArray(output, i);
+    }
+  }
+
+  private static final VectorSpecies<Integer> SPECIES_128 = IntVector.SPECIES_128;
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Packs partial blocks, 1 - 128 integers, in the interleaved layout of {@link SimdBitPacking}:
+ * integer i goes to lane {@code i % 4}, at bit offset {@code (i / 4) * bit} of that lane. The last
+ * vector of a partial block is loaded and stored with a mask, so neither the input nor the output
+ * needs to be padded to a multiple of the vector length. A partial block of 128 integers is
+ * identical to the block {@link SimdBitPacking#simdPack} produces.
+ */
+final class SimdBitPackingTail {
+
+  private SimdBitPackingTail() {}
+
+  /** Number of ints that {@code length} integers packed with {@code bit} bits per value take. */
+  static int numInts(int length, int bit) {
+    final int numVectors = (length + 3) >> 2;
+    return ((numVectors * bit + 31) >>> 5) << 2;
+  }
+
+  /* Packs the first length integers of input. Assumes that integers fit in the prescribed number of bits */
+  static void simdPackTail(int[] input, int length, int[] output, int bit) {
+    IntVector out = IntVector.zero(SPECIES_128);
+    int outIdx = 0;
+    int shift = 0;
+    for (int i = 0; i < length; i += 4) {
+      final IntVector in = i + 4 <= length
+          ? IntVector.fromArray(SPECIES_128, input, i)
+          : IntVector.fromArray(SPECIES_128, input, i, SPECIES_128.indexInRange(i, length));
+      out = out.or(in.lanewise(VectorOperators.LSHL, shift));
+      shift += bit;
+      if (shift >= 32) {
+        out.intoArray(output, outIdx);
+        outIdx += 4;
+        shift -= 32;
+        out = shift == 0 ? IntVector.zero(SPECIES_128) : in.lanewise(VectorOperators.LSHR, bit - shift);
+      }
+    }
+    if (shift > 0) {
+      out.intoArray(output, outIdx);
+    }
+  }
+
+  /* Reverses simdPackTail, only the first length integers of output are written */
+  static void simdUnpackTail(int[] input, int[] output, int length, int bit) {
+    final IntVector mask = IntVector.broadcast(SPECIES_128, bit == 32 ? -1 : (1 << bit) - 1);
+    IntVector in = IntVector.fromArray(SPECIES_128, input, 0);
+    int inIdx = 4;
+    int shift = 0;
+    for (int i = 0; i < length; i += 4) {
+      IntVector out = in.lanewise(VectorOperators.LSHR, shift);
+      shift += bit;
+      if (shift == 32) {
+        if (i + 4 < length) {
+          in = IntVector.fromArray(SPECIES_128, input, inIdx);
+          inIdx += 4;
+        }
+        shift = 0;
+      } else if (shift > 32) {
+        in = IntVector.fromArray(SPECIES_128, input, inIdx);
+        inIdx += 4;
+        shift -= 32;
+        out = out.or(in.lanewise(VectorOperators.LSHL, bit - shift));
+      }
+      out = out.and(mask);
+      if (i + 4 <= length) {
+        out.intoArray(output, i);
+      } else {
+        out.intoArray(output, i, SPECIES_128.indexInRange(i, length));
+      }
+    }
+  }
+
+  private static final VectorSpecies<Integer> SPECIES_128 = IntVector.SPECIES_128;
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Decodes blocks in {@link ForUtil}'s layout with the Vector API. The output is bit for bit the
+ * output of {@link ForUtil#decode} and {@link ForUtil#decodeTo32}, for all of 1 - 32 bits per
+ * value, so existing data gets faster decoding without being rewritten.
+ *
+ * ForUtil collapses the 128 values 8, 4 or 2 per long, depending on whether they fit in 8, 16 or 32
+ * bits, and then packs the collapsed longs in two phases:
+ * <ul>
+ *   <li>the first {@code primitive / bitsPerValue} rounds of {@code 2 * bitsPerValue} longs are
+ *   shifted into the packed longs, these are decoded with a shift and a mask per vector of longs,
+ *   <li>the remaining longs are split across the low bits left in each packed long, these are
+ *   decoded with gathers driven by per bit width tables computed once, see {@link Remainder}.
+ * </ul>
+ * The decoded longs are then expanded one value per long, or two values per long for decodeTo32.
+ */
+final class SimdForUtil {
+
+  private static final int BLOCK_SIZE = ForUtil.BLOCK_SIZE;
+  private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+  private static final int LANES = SPECIES.length();
+
+  private static final Remainder[] REMAINDERS = new Remainder[33];
+
+  static {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; ++bitsPerValue) {
+      REMAINDERS[bitsPerValue] = new Remainder(bitsPerValue);
+    }
+  }
+
+  private final long[] tmp = new long[BLOCK_SIZE / 2];
+
+  /** Decode 128 integers into {@code longs}. */
+  void decode(int bitsPerValue, DataInput in, long[] longs) throws IOException {
+    in.readLongs(tmp, 0, bitsPerValue * 2);
+    decode(bitsPerValue, tmp, longs);
+  }
+
+  /** Decode 128 integers from the packed longs of {@code in} into {@code longs}, {@code in} is left untouched. */
+  void decode(int bitsPerValue, long[] in, long[] longs) {
+    final int primitive = primitive(bitsPerValue);
+    unpack(bitsPerValue, primitive, in, longs, 0);
+    switch (primitive) {
+      case 8: ForUtil.expand8(longs); break;
+      case 16: ForUtil.expand16(longs); break;
+      default: ForUtil.expand32(longs); break;
+    }
+  }
+
+  /**
+   * Like {@link #decode(int, DataInput, long[])}, but reads the packed longs straight from {@code in}, as
+   * little endian longs at byte {@code offset}, e.g. from a memory mapped file, with 0 - 32 bits per
+   * value. The first round loads the packed longs from the segment as it decodes them. Gathers only
+   * read arrays, so that round also keeps them in the scratch array for the later rounds and the
+   * remainder, rather than a separate pass copying them there first.
+   */
+  void decode(int bitsPerValue, MemorySegment in, long offset, long[] longs) {
+    if (bitsPerValue == 0) {
+      Arrays.fill(longs, 0, BLOCK_SIZE, 0L);
+      return;
+    }
+    final int primitive = primitive(bitsPerValue);
+    final int numLongs = bitsPerValue * 2;
+    final int shift = primitive - bitsPerValue;
+    final long mask = mask(primitive, bitsPerValue);
+    int i = 0;
+    for (; i < SPECIES.loopBound(numLongs); i += LANES) {
+      final LongVector l = LongVector.fromMemorySegment(SPECIES, in, offset + (long) i * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+      l.intoArray(tmp, i);
+      l.lanewise(VectorOperators.LSHR, shift).and(mask).intoArray(longs, i);
+    }
+    if (i < numLongs) {
+      final VectorMask<Long> m = SPECIES.indexInRange(i, numLongs);
+      final LongVector l = LongVector.fromMemorySegment(SPECIES, in, offset + (long) i * Long.BYTES, ByteOrder.LITTLE_ENDIAN, m);
+      l.intoArray(tmp, i, m);
+      l.lanewise(VectorOperators.LSHR, shift).and(mask).intoArray(longs, i, m);
+    }
+    unpack(bitsPerValue, primitive, tmp, longs, 1);
+    switch (primitive) {
+      case 8: ForUtil.expand8(longs); break;
+      case 16: ForUtil.expand16(longs); break;
+      default: ForUtil.expand32(longs); break;
+    }
+  }
+
+  /** Decodes 128 integers into 64 {@code longs}, two values per long, see {@link ForUtil#decodeTo32}. */
+  void decodeTo32(int bitsPerValue, DataInput in, long[] longs) throws IOException {
+    in.readLongs(tmp, 0, bitsPerValue * 2);
+    decodeTo32(bitsPerValue, tmp, longs);
+  }
+
+  /** Like {@link #decodeTo32(int, DataInput, long[])}, from the packed longs of {@code in}. */
+  void decodeTo32(int bitsPerValue, long[] in, long[] longs) {
+    final int primitive = primitive(bitsPerValue);
+    unpack(bitsPerValue, primitive, in, longs, 0);
+    switch (primitive) {
+      case 8: ForUtil.expand8To32(longs); break;
+      case 16: ForUtil.expand16To32(longs); break;
+      default: break;
+    }
+  }
+
+  /** The number of bits per slot that ForUtil collapses values of {@code bitsPerValue} bits into. */
+  private static int primitive(int bitsPerValue) {
+    if (bitsPerValue < 1 || bitsPerValue > 32) {
+      throw new UnsupportedOperationException("bitsPerValue=" + bitsPerValue);
+    }
+    return bitsPerValue <= 8 ? 8 : bitsPerValue <= 16 ? 16 : 32;
+  }
+
+  /** A mask of the low {@code bits} bits of every {@code primitive} bits slot of a long. */
+  private static long mask(int primitive, int bits) {
+    long slot = (1L << bits) - 1;
+    for (int width = primitive; width < 64; width <<= 1) {
+      slot |= slot << width;
+    }
+    return slot;
+  }
+
+  /** Unpacks the rounds from {@code round} on, the earlier ones being decoded already, and then the remainder. */
+  private static void unpack(int bitsPerValue, int primitive, long[] in, long[] longs, int round) {
+    final int numLongs = bitsPerValue * 2;
+    final long mask = mask(primitive, bitsPerValue);
+    int longsIdx = round * numLongs;
+    int shift = primitive - bitsPerValue * (round + 1);
+    for (; shift >= 0; shift -= bitsPerValue) {
+      shiftLongs(in, numLongs, longs, longsIdx, shift, mask);
+      longsIdx += numLongs;
+    }
+    REMAINDERS[bitsPerValue].decode(in, longs, longsIdx);
+  }
+
+  private static void shiftLongs(long[] a, int count, long[] b, int bi, int shift, long mask) {
+    int i = 0;
+    for (; i < SPECIES.loopBound(count); i += LANES) {
+      LongVector.fromArray(SPECIES, a, i).lanewise(VectorOperators.LSHR, shift).and(mask).intoArray(b, bi + i);
+    }
+    if (i < count) {
+      final VectorMask<Long> m = SPECIES.indexInRange(i, count);
+      LongVector.fromArray(SPECIES, a, i, m).lanewise(VectorOperators.LSHR, shift).and(mask).intoArray(b, bi + i, m);
+    }
+  }
+
+  /**
+   * The collapsed longs that don't fit in whole rounds. Each is assembled from pieces of consecutive
+   * packed longs, {@code ((in[index] >>> rightShift) & mask) << leftShift}, as in ForUtil's
+   * decodeN methods. The pieces are laid out piece by piece, so that piece {@code p} of a vector of
+   * consecutive output longs is one gather and a few lanewise operations. Output longs with fewer
+   * pieces than others are padded with empty pieces, whose mask is 0.
+   */
+  private static final class Remainder {
+    final int numLongs;
+    final int numPieces;
+    final int stride;
+    final int[] indices;
+    final long[] rightShifts;
+    final long[] masks;
+    final long[] leftShifts;
+
+    Remainder(int bitsPerValue) {
+      final int primitive = primitive(bitsPerValue);
+      int shift = primitive - bitsPerValue;
+      int rounds = 0;
+      for (; shift >= 0; shift -= bitsPerValue) {
+        rounds++;
+      }
+      final int remainingBitsPerLong = shift + bitsPerValue;
+      numLongs = BLOCK_SIZE * primitive / 64 - rounds * bitsPerValue * 2;
+      stride = (numLongs + LANES - 1) / LANES * LANES;
+      numPieces = numLongs == 0 ? 0 : (bitsPerValue + remainingBitsPerLong - 1) / remainingBitsPerLong + 1;
+      indices = new int[numPieces * stride];
+      rightShifts = new long[numPieces * stride];
+      masks = new long[numPieces * stride];
+      leftShifts = new long[numPieces * stride];
+
+      int tmpIdx = 0;
+      int remainingBits = remainingBitsPerLong;
+      for (int r = 0; r < numLongs; ++r) {
+        int piece = 0;
+        int b = bitsPerValue - remainingBits;
+        set(piece++, r, tmpIdx++, 0, mask(primitive, remainingBits), b);
+        while (b >= remainingBitsPerLong) {
+          b -= remainingBitsPerLong;
+          set(piece++, r, tmpIdx++, 0, mask(primitive, remainingBitsPerLong), b);
+        }
+        if (b > 0) {
+          set(piece, r, tmpIdx, remainingBitsPerLong - b, mask(primitive, b), 0);
+          remainingBits = remainingBitsPerLong - b;
+        } else {
+          remainingBits = remainingBitsPerLong;
+        }
+      }
+    }
+
+    private void set(int piece, int r, int index, int rightShift, long mask, int leftShift) {
+      indices[piece * stride + r] = index;
+      rightShifts[piece * stride + r] = rightShift;
+      masks[piece * stride + r] = mask;
+      leftShifts[piece * stride + r] = leftShift;
+    }
+
+    void decode(long[] in, long[] longs, int longsIdx) {
+      for (int r = 0; r < numLongs; r += LANES) {
+        LongVector l = LongVector.zero(SPECIES);
+        for (int piece = 0; piece < numPieces; ++piece) {
+          final int off = piece * stride + r;
+          l = l.or(LongVector.fromArray(SPECIES, in, 0, indices, off)
+              .lanewise(VectorOperators.LSHR, LongVector.fromArray(SPECIES, rightShifts, off))
+              .and(LongVector.fromArray(SPECIES, masks, off))
+              .lanewise(VectorOperators.LSHL, LongVector.fromArray(SPECIES, leftShifts, off)));
+        }
+        if (r + LANES <= numLongs) {
+          l.intoArray(longs, longsIdx + r);
+        } else {
+          l.intoArray(longs, longsIdx + r, SPECIES.indexInRange(r, numLongs));
+        }
+      }
+    }
+  }
+}
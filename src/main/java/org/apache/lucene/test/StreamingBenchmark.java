@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// End to end decoding of consecutive blocks through DataInput, from a heap buffer and from a memory
+// mapped file, so that the cost of reading the packed data is measured along with the decoding.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class StreamingBenchmark {
+
+  private static final int NUM_BLOCKS = 64;
+
+  @Param({"4", "8", "12", "16", "20", "27"})
+  int bitsPerValue;
+
+  final ForUtil forUtil = new ForUtil();
+
+  private Arena arena;
+  private Path forFile, simdFile;
+  private ByteBufferDataInput forHeapIn, simdHeapIn;
+  private MemorySegmentDataInput forMmapIn, simdMmapIn;
+  private long[] longsOutput = new long[128];
+  private int[] packed;
+  private int[] intsOutput = new int[128];
+
+  @Setup(Level.Trial)
+  public void init() throws IOException {
+    final int numBytes = forUtil.numBytes(bitsPerValue);
+    ByteBuffer forBlocks = ByteBuffer.allocate(NUM_BLOCKS * numBytes);
+    ByteBuffer simdBlocks = ByteBuffer.allocate(NUM_BLOCKS * numBytes);
+    ByteBufferDataOutput forOut = new ByteBufferDataOutput(forBlocks);
+    ByteBufferDataOutput simdOut = new ByteBufferDataOutput(simdBlocks);
+    packed = new int[bitsPerValue * 4];
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      long[] longs = new long[128];
+      int[] ints = new int[128];
+      for (int i = 0; i < 128; i++) {
+        ints[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bitsPerValue);
+        longs[i] = ints[i];
+      }
+      forUtil.encode(longs, bitsPerValue, forOut);
+      SimdBitPacking.simdPack(ints, packed, bitsPerValue);
+      simdOut.writeInts(packed, 0, packed.length);
+    }
+    forHeapIn = new ByteBufferDataInput(forBlocks);
+    simdHeapIn = new ByteBufferDataInput(simdBlocks);
+
+    forFile = Files.createTempFile("for", ".blocks");
+    simdFile = Files.createTempFile("simd", ".blocks");
+    Files.write(forFile, forBlocks.array());
+    Files.write(simdFile, simdBlocks.array());
+    arena = Arena.ofShared();
+    forMmapIn = MemorySegmentDataInput.map(forFile, arena);
+    simdMmapIn = MemorySegmentDataInput.map(simdFile, arena);
+  }
+
+  @TearDown(Level.Trial)
+  public void close() throws IOException {
+    arena.close();
+    Files.delete(forFile);
+    Files.delete(simdFile);
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public long[] decodeForUtilHeap() throws IOException {
+    forHeapIn.seek(0);
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      forUtil.decode(bitsPerValue, forHeapIn, longsOutput);
+    }
+    return longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public long[] decodeForUtilMmap() throws IOException {
+    forMmapIn.seek(0);
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      forUtil.decode(bitsPerValue, forMmapIn, longsOutput);
+    }
+    return longsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public int[] unpackSimdHeap() {
+    simdHeapIn.seek(0);
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      simdHeapIn.readInts(packed, 0, packed.length);
+      SimdBitPacking.simdUnpack(packed, intsOutput, bitsPerValue);
+    }
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public int[] unpackSimdMmap() {
+    simdMmapIn.seek(0);
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      simdMmapIn.readInts(packed, 0, packed.length);
+      SimdBitPacking.simdUnpack(packed, intsOutput, bitsPerValue);
+    }
+    return intsOutput;
+  }
+
+  // no copy at all, the block is decoded straight from the mapped file
+  @org.openjdk.jmh.annotations.Benchmark
+  @OperationsPerInvocation(NUM_BLOCKS)
+  public int[] unpackSimdMmapZeroCopy() {
+    final long numBytes = bitsPerValue * 16L;
+    for (int block = 0; block < NUM_BLOCKS; block++) {
+      SimdBitPacking.simdUnpack(simdMmapIn.segment(), block * numBytes, ByteOrder.LITTLE_ENDIAN, intsOutput, bitsPerValue);
+    }
+    return intsOutput;
+  }
+}
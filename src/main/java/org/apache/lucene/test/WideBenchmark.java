@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Every benchmark decodes 512 values, so that the vector sizes can be compared per value.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsPrepend = {"--add-modules=jdk.incubator.vector"})
+public class WideBenchmark {
+
+  @Param({"4", "12", "20"})
+  int bitsPerValue;
+
+  private int[] packed128;
+  private int[] packed256;
+  private int[] packed512;
+  private int[] packedPreferred;
+  private int[] intsOutput = new int[512];
+
+  @Setup(Level.Trial)
+  public void init() {
+    int[] ints = new int[512];
+    for (int i = 0; i < 512; i++) {
+      ints[i] = ThreadLocalRandom.current().nextInt() >>> (32 - bitsPerValue);
+    }
+    packed128 = new int[bitsPerValue * 4];
+    SimdBitPacking.simdPack(ints, packed128, bitsPerValue);
+    packed256 = new int[bitsPerValue * 8];
+    SimdBitPacking256.simdPack(ints, packed256, bitsPerValue);
+    packed512 = new int[bitsPerValue * 16];
+    SimdBitPacking512.simdPack(ints, packed512, bitsPerValue);
+    packedPreferred = new int[PreferredSimdBitPacking.numInts(bitsPerValue)];
+    PreferredSimdBitPacking.simdPack(ints, packedPreferred, bitsPerValue);
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpack128() {
+    for (int i = 0; i < 512 / SimdBitPacking.BLOCK_SIZE; i++) {
+      SimdBitPacking.simdUnpack(packed128, intsOutput, bitsPerValue);
+    }
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpack256() {
+    for (int i = 0; i < 512 / SimdBitPacking256.BLOCK_SIZE; i++) {
+      SimdBitPacking256.simdUnpack(packed256, intsOutput, bitsPerValue);
+    }
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpack512() {
+    SimdBitPacking512.simdUnpack(packed512, intsOutput, bitsPerValue);
+    return intsOutput;
+  }
+
+  @org.openjdk.jmh.annotations.Benchmark
+  public int[] unpackPreferred() {
+    for (int i = 0; i < 512 / PreferredSimdBitPacking.BLOCK_SIZE; i++) {
+      PreferredSimdBitPacking.simdUnpack(packedPreferred, intsOutput, bitsPerValue);
+    }
+    return intsOutput;
+  }
+}
@@ -0,0 +1,1053 @@
+#! /usr/bin/env python
+
+# Licensed to the Apache Software Foundation (ASF) under one or more
+# contributor license agreements.  See the NOTICE file distributed with
+# this work for additional information regarding copyright ownership.
+# The ASF licenses this file to You under the Apache License, Version 2.0
+# (the "License"); you may not use this file except in compliance with
+# the License.  You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+
+"""Generates the SimdBitPacking pack and unpack kernels.
+
+Every shape produces the same 128-int interleaved layout as simdcomp, they
+only differ in the code that is emitted for the JVM to optimize:
+
+  unrolled  one fully unrolled method per bit width, a direct port of
+            simdcomp (SimdBitPacking.java). The same kernels are also
+            emitted for 256 and 512 bit vectors, which use blocks of 256
+            and 512 ints (SimdBitPacking256.java, SimdBitPacking512.java)
+  loop      one method per bit width, iterating over the 32 rows of the
+            block (SimdBitPackingLoop.java)
+  table     a single method per direction, driven by per bit width shift
+            tables held in constants (SimdBitPackingTable.java)
+
+Usage: python3 gen_SimdBitPacking.py [shape ...]
+
+With no arguments, all shapes are generated.
+"""
+
+import sys
+
+LICENSE = """// This file has been automatically generated, DO NOT EDIT
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+"""
+
+IMPORTS = ["jdk.incubator.vector.IntVector", "jdk.incubator.vector.VectorOperators", "jdk.incubator.vector.VectorSpecies"]
+
+
+def write_header(f, imports=IMPORTS):
+  f.write(LICENSE)
+  for i in sorted(imports):
+    f.write("import %s;\n" % i)
+
+UNROLLED_DOC = """
+/**
+ * Supports packing and unpacking integers arrays of 128 elements, using 128
+ * bit vectors with 4 int lanes.
+ * Based on https://github.com/lemire/simdcomp/blob/master/src/simdbitpacking.c
+ *
+ * All of 1 - 32 bits per element value are supported. Value {@code i} of a block is stored in
+ * lane {@code i %% 4}, at bit offset {@code (i / 4) * bit} of that lane's stream of ints.
+ *
+ * Besides plain packing, there are variants that mask the integers (simdPackWithMask), that pack the
+ * differences between consecutive integers (simdPackD1, simdUnpackD1) and that pack the differences
+ * with a base value (simdPackFOR, simdUnpackFOR), all fused into the kernels. simdPack,
+ * simdPackWithMask and simdUnpack can read and write at offsets of larger arrays, simdUnpackBlocks
+ * unpacks many consecutive blocks in one call, simdGet and simdGetMany read single values without
+ * unpacking their block,
+ * simdFindNextGEQ and simdFindNextGEQD1 search a block for the first integer greater than or equal
+ * to a target, simdUnpackSum, simdUnpackMin, simdUnpackMax and simdUnpackCount aggregate a block
+ * without storing its integers, and simdUnpack can also read blocks straight from a MemorySegment or a
+ * ByteBuffer, at any offset and byte order.
+ *
+ * The kernels are a direct port of the C variant, one fully unrolled method per bit width.
+ * See {@link SimdBitPackingLoop} and {@link SimdBitPackingTable} for alternative shapes of the
+ * same code, generated by gen_SimdBitPacking.py.
+ */
+"""
+
+LOOP_DOC = """
+/**
+ * Same layout as {@link SimdBitPacking}, but each kernel iterates over the 32 rows of the block
+ * rather than being fully unrolled, which leaves unrolling decisions to the JIT.
+ */
+"""
+
+TABLE_DOC = """
+/**
+ * Same layout as {@link SimdBitPacking}, but with a single kernel per direction that is driven by
+ * per bit width shift tables held in constants, rather than by per bit width code.
+ */
+"""
+
+WIDE_DOC = """
+/**
+ * Supports packing and unpacking integers arrays of %(block)d elements, using %(vbits)d
+ * bit vectors with %(lanes)d int lanes.
+ *
+ * This is the layout of {@link SimdBitPacking}, widened to %(lanes)d lanes: value {@code i} of a block
+ * is stored in lane {@code i %% %(lanes)d}, at bit offset {@code (i / %(lanes)d) * bit} of that lane's
+ * stream of ints. A block packed with {@code bit} bits per value takes {@code bit * %(lanes)d} ints.
+ * Blocks are not compatible with those of other vector sizes, see {@link PreferredSimdBitPacking}.
+ */
+"""
+
+PACK_DISPATCH = """
+  static final int BLOCK_SIZE = %(block)d;
+
+  // simdpackwithoutmask(const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Assumes that integers fit in the prescribed number of bits */
+  static void simdPack(int[] input, int[] output, int bit) {
+    switch (bit) {
+%(pack)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+"""
+
+UNROLLED_PACK_DISPATCH = """
+  static final int BLOCK_SIZE = %(block)d;
+
+  // simdpackwithoutmask(const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Assumes that integers fit in the prescribed number of bits, which may be 0 */
+  static void simdPack(int[] input, int[] output, int bit) {
+    simdPack(input, 0, output, 0, bit);
+  }
+
+  /* Like simdPack, but reads the %(block)d integers from input at inOffset and writes the packed block
+     to output at outOffset, so that slices of larger arrays can be packed without copying them */
+  static void simdPack(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (bit) {
+      case 0: return;
+%(packOffset)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+"""
+
+BATCH_DISPATCH = """
+  /* Unpacks numBlocks blocks that are stored back to back in input, starting at inOffset, block i being packed with
+     bits[i] bits per value, into output at outOffset, %(block)d integers per block. Runs of consecutive blocks with
+     the same bits per value go through a single switch, and then through the same kernel one block after the other */
+  static void simdUnpackBlocks(int[] input, int inOffset, int[] bits, int numBlocks, int[] output, int outOffset) {
+    int block = 0;
+    while (block < numBlocks) {
+      final int bit = bits[block];
+      int runEnd = block + 1;
+      while (runEnd < numBlocks && bits[runEnd] == bit) {
+        runEnd++;
+      }
+      final int runLength = runEnd - block;
+      switch (bit) {
+        case 0:
+          for (int i = 0; i < runLength * %(block)d; i += %(lanes)d) {
+            IntVector.zero(%(species)s).intoArray(output, outOffset + i);
+          }
+          break;
+%(unpackRun)s
+        default : throw new UnsupportedOperationException();
+      }
+      inOffset += runLength * bit * %(lanes)d;
+      outOffset += runLength * %(block)d;
+      block = runEnd;
+    }
+  }
+"""
+
+UNROLLED_UNPACK_DISPATCH = """
+  // void simdunpack(const __m128i *in, uint32_t *out, const uint32_t bit) {
+  static void simdUnpack(int[] input, int[] output, int bit) {
+    simdUnpack(input, 0, output, 0, bit);
+  }
+
+  /* Like simdUnpack, but reads the packed block from input at inOffset and writes the %(block)d integers
+     to output at outOffset, so that consecutive blocks can be unpacked back to back into one array */
+  static void simdUnpack(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (bit) {
+      case 0:
+        for (int i = 0; i < %(block)d; i += %(lanes)d) {
+          IntVector.zero(%(species)s).intoArray(output, outOffset + i);
+        }
+        return;
+%(unpackOffset)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final VectorSpecies<Integer> %(species)s = IntVector.%(species)s;
+"""
+
+UNPACK_DISPATCH = """
+  // void simdunpack(const __m128i *in, uint32_t *out, const uint32_t bit) {
+  static void simdUnpack(int[] input, int[] output, int bit) {
+    switch (bit) {
+%(unpack)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final VectorSpecies<Integer> %(species)s = IntVector.%(species)s;
+"""
+
+MASKED_DISPATCH = """
+  // simdpack(const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Like simdPack, but only packs the low bit bits of each integer, higher bits are ignored */
+  static void simdPackWithMask(int[] input, int[] output, int bit) {
+    simdPackWithMask(input, 0, output, 0, bit);
+  }
+
+  /* Like simdPackWithMask, but reads the %(block)d integers from input at inOffset and writes the packed block
+     to output at outOffset */
+  static void simdPackWithMask(int[] input, int inOffset, int[] output, int outOffset, int bit) {
+    switch (bit) {
+      case 0: return;
+%(packWithMask)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+"""
+
+MAXBITS_DISPATCH = """
+  // maxbits(const uint32_t *begin)
+  /* Returns the number of bits that simdPack needs to pack the %(block)d integers, 0 - 32 */
+  static int simdMaxBits(int[] input) {
+    IntVector accumulator = IntVector.fromArray(%(species)s, input, 0);
+    for (int i = %(lanes)d; i < %(block)d; i += %(lanes)d) {
+      accumulator = accumulator.or(IntVector.fromArray(%(species)s, input, i));
+    }
+    return 32 - Integer.numberOfLeadingZeros(accumulator.reduceLanes(VectorOperators.OR));
+  }
+"""
+
+RANDOM_ACCESS_DISPATCH = """
+  /* Returns value index of a block packed with bit bits per value, without unpacking the block */
+  static int simdGet(int[] input, int bit, int index) {
+    return simdGet(input, 0, bit, index);
+  }
+
+  /* Like simdGet, but reads the packed block from input at inOffset. Value index sits in lane index %% %(lanes)d, at bit
+     offset (index / %(lanes)d) * bit of that lane's stream of ints, so it spans at most two ints of that lane */
+  static int simdGet(int[] input, int inOffset, int bit, int index) {
+    if (bit == 0) {
+      return 0;
+    }
+    final int bitOffset = (index >>> %(lanesShift)d) * bit;
+    final int word = inOffset + ((bitOffset >>> 5) << %(lanesShift)d) + (index & %(laneMask)d);
+    final int shift = bitOffset & 31;
+    long bits = input[word] & 0xFFFFFFFFL;
+    if (shift + bit > 32) {
+      bits |= (long) input[word + %(lanes)d] << 32;
+    }
+    return (int) (bits >>> shift) & (int) (0xFFFFFFFFL >>> (32 - bit));
+  }
+
+  /* Like simdGet, for the count indices of indices, written to output. Each vector of indices takes two gathers: the
+     ints that the values start in, and the next ints of their lanes, which the values that cross into them need.
+     The word indices of the gathers are staged in output, where the values then go, so that no scratch is needed */
+  static void simdGetMany(int[] input, int inOffset, int bit, int[] indices, int count, int[] output) {
+    if (bit == 0) {
+      Arrays.fill(output, 0, count, 0);
+      return;
+    }
+    final int valueMask = (int) (0xFFFFFFFFL >>> (32 - bit));
+    int i = 0;
+    for (; i < %(species)s.loopBound(count); i += %(lanes)d) {
+      final IntVector index = IntVector.fromArray(%(species)s, indices, i);
+      final IntVector bitOffset = index.lanewise(VectorOperators.LSHR, %(lanesShift)d).mul(bit);
+      final IntVector word = bitOffset.lanewise(VectorOperators.LSHR, 5).lanewise(VectorOperators.LSHL, %(lanesShift)d)
+          .add(index.and(%(laneMask)d));
+      final IntVector shift = bitOffset.and(31);
+      final VectorMask<Integer> crosses = shift.add(bit).compare(VectorOperators.GT, 32);
+      word.intoArray(output, i);
+      final IntVector low = IntVector.fromArray(%(species)s, input, inOffset, output, i);
+      // Gathers range-check masked off lanes too, so the lanes that don't cross load their own int again rather than
+      // the next one, which may be past the block, and are then zeroed. That also covers shift 0, where 32 - shift
+      // wraps around to a shift of 0
+      word.add(%(lanes)d, crosses).intoArray(output, i);
+      final IntVector high = IntVector.fromArray(%(species)s, input, inOffset, output, i).blend(0, crosses.not());
+      low.lanewise(VectorOperators.LSHR, shift)
+          .or(high.lanewise(VectorOperators.LSHL, shift.neg().add(32)))
+          .and(valueMask)
+          .intoArray(output, i);
+    }
+    for (; i < count; i++) {
+      output[i] = simdGet(input, inOffset, bit, indices[i]);
+    }
+  }
+"""
+
+D1_DISPATCH = """
+  // simdpackd1(uint32_t initvalue, const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Packs the differences between consecutive integers, the first one being relative to initOffset.
+     Assumes that the differences fit in the prescribed number of bits, which may be 0 */
+  static void simdPackD1(int initOffset, int[] input, int[] output, int bit) {
+    final IntVector init = IntVector.broadcast(SPECIES_128, initOffset);
+    switch (bit) {
+      case 0: return;
+%(packD1)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  // simdunpackd1(uint32_t initvalue, const __m128i *in, uint32_t *out, const uint32_t bit) {
+  /* Reverses simdPackD1, the differences are summed up as they are unpacked */
+  static void simdUnpackD1(int initOffset, int[] input, int[] output, int bit) {
+    final IntVector init = IntVector.broadcast(SPECIES_128, initOffset);
+    switch (bit) {
+      case 0:
+        for (int i = 0; i < 128; i += 4) {
+          init.intoArray(output, i);
+        }
+        return;
+%(unpackD1)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  // simdmaxbitsd1(uint32_t initvalue, const uint32_t *in)
+  /* Returns the number of bits that simdPackD1 needs to pack the differences of the 128 integers, 0 - 32 */
+  static int simdMaxBitsD1(int initOffset, int[] input) {
+    IntVector prev = IntVector.broadcast(SPECIES_128, initOffset);
+    IntVector accumulator = IntVector.zero(SPECIES_128);
+    for (int i = 0; i < 128; i += 4) {
+      final IntVector curr = IntVector.fromArray(SPECIES_128, input, i);
+      accumulator = accumulator.or(delta(curr, prev));
+      prev = curr;
+    }
+    return 32 - Integer.numberOfLeadingZeros(accumulator.reduceLanes(VectorOperators.OR));
+  }
+
+  private static final VectorShuffle<Integer> LAST_LANE = VectorShuffle.fromValues(SPECIES_128, 3, 3, 3, 3);
+
+  // Delta(curr, prev): subtracts from each lane the lane before it, the last lane of prev for the first lane
+  private static IntVector delta(IntVector curr, IntVector prev) {
+    return curr.sub(prev.slice(3, curr));
+  }
+
+  // PrefixSum(curr, prev): inclusive prefix sum of the lanes of curr, plus the last lane of prev
+  private static IntVector prefixSum(IntVector curr, IntVector prev) {
+    curr = curr.add(curr.unslice(1));
+    curr = curr.add(curr.unslice(2));
+    return curr.add(prev.rearrange(LAST_LANE));
+  }
+"""
+
+FOR_DISPATCH = """
+  // simdpackFOR(uint32_t initvalue, const uint32_t *in, __m128i *out, const uint32_t bit) {
+  /* Packs the differences between the integers and base, see simdMin and simdMaxBitsFOR.
+     Assumes that the differences fit in the prescribed number of bits, which may be 0 */
+  static void simdPackFOR(int base, int[] input, int[] output, int bit) {
+    final IntVector baseVec = IntVector.broadcast(SPECIES_128, base);
+    switch (bit) {
+      case 0: return;
+%(packFOR)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  // simdunpackFOR(uint32_t initvalue, const __m128i *in, uint32_t *out, const uint32_t bit) {
+  /* Reverses simdPackFOR, base is added back as the integers are unpacked */
+  static void simdUnpackFOR(int base, int[] input, int[] output, int bit) {
+    final IntVector baseVec = IntVector.broadcast(SPECIES_128, base);
+    switch (bit) {
+      case 0:
+        for (int i = 0; i < 128; i += 4) {
+          baseVec.intoArray(output, i);
+        }
+        return;
+%(unpackFOR)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  // simdmin(const uint32_t *in, uint32_t *getmin, uint32_t *getmax)
+  /* Returns the minimum of the 128 integers, compared as signed values, the natural base of simdPackFOR */
+  static int simdMin(int[] input) {
+    IntVector min = IntVector.fromArray(SPECIES_128, input, 0);
+    for (int i = 4; i < 128; i += 4) {
+      min = min.min(IntVector.fromArray(SPECIES_128, input, i));
+    }
+    return min.reduceLanes(VectorOperators.MIN);
+  }
+
+  /* Returns the number of bits that simdPackFOR needs to pack the 128 integers relative to base, 0 - 32 */
+  static int simdMaxBitsFOR(int base, int[] input) {
+    final IntVector baseVec = IntVector.broadcast(SPECIES_128, base);
+    IntVector accumulator = IntVector.zero(SPECIES_128);
+    for (int i = 0; i < 128; i += 4) {
+      accumulator = accumulator.or(IntVector.fromArray(SPECIES_128, input, i).sub(baseVec));
+    }
+    return 32 - Integer.numberOfLeadingZeros(accumulator.reduceLanes(VectorOperators.OR));
+  }
+"""
+
+SEARCH_DISPATCH = """
+  /* Returns the index of the first of the 128 integers packed by simdPack that is greater than or equal to target,
+     compared as signed ints, or 128 if there is none. The block is unpacked a vector at a time, and the search
+     returns as soon as a lane of the vector matches, without unpacking the rest of the block */
+  static int simdFindNextGEQ(int[] input, int bit, int target) {
+    switch (bit) {
+      case 0: return 0 >= target ? 0 : 128;
+%(search)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  /* Like simdFindNextGEQ, for the integers packed by simdPackD1, which are summed up as they are unpacked. When the
+     integers increase, as doc IDs do, this is the advance(target) of a postings block */
+  static int simdFindNextGEQD1(int initOffset, int[] input, int bit, int target) {
+    final IntVector init = IntVector.broadcast(SPECIES_128, initOffset);
+    switch (bit) {
+      case 0: return initOffset >= target ? 0 : 128;
+%(searchD1)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+"""
+
+AGGREGATE_DISPATCH = """
+  /* Returns sum plus the sum of the 128 integers of the block packed by simdPack at inOffset of input. The block is
+     unpacked a vector at a time into lane-wise accumulators rather than into an array, and passing the sum of the
+     previous blocks in sums many blocks into one accumulator. Integers are summed as the signed ints that
+     simdUnpack returns */
+  static long simdUnpackSum(int[] input, int inOffset, int bit, long sum) {
+    switch (bit) {
+      case 0: return sum;
+%(unpackSum)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  /* Like simdUnpackSum, but returns the minimum of min and of the 128 integers, compared as signed ints */
+  static int simdUnpackMin(int[] input, int inOffset, int bit, int min) {
+    switch (bit) {
+      case 0: return Math.min(min, 0);
+%(unpackMin)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  /* Like simdUnpackSum, but returns the maximum of max and of the 128 integers, compared as signed ints */
+  static int simdUnpackMax(int[] input, int inOffset, int bit, int max) {
+    switch (bit) {
+      case 0: return Math.max(max, 0);
+%(unpackMax)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  /* Like simdUnpackSum, but returns count plus the number of the 128 integers that are between from and to, both
+     included, compared as signed ints */
+  static int simdUnpackCount(int[] input, int inOffset, int bit, int from, int to, int count) {
+    switch (bit) {
+      case 0: return from <= 0 && 0 <= to ? count + 128 : count;
+%(unpackCount)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+"""
+
+SEGMENT_DISPATCH = """
+  /* Like simdUnpack, but reads the packed block straight from a MemorySegment, e.g. a memory mapped
+     file, starting at byte offset and with the given byte order. Nothing is copied to the heap. */
+  static void simdUnpack(MemorySegment input, long offset, ByteOrder order, int[] output, int bit) {
+    switch (bit) {
+      case 0:
+        for (int i = 0; i < 128; i += 4) {
+          IntVector.zero(SPECIES_128).intoArray(output, i);
+        }
+        return;
+%(unpackSegment)s
+      default : throw new UnsupportedOperationException();
+    }
+  }
+
+  /* Like simdUnpack, but reads the packed block from a ByteBuffer at byte offset, in the buffer's byte order */
+  static void simdUnpack(ByteBuffer input, int offset, int[] output, int bit) {
+    simdUnpack(MemorySegment.ofBuffer(input), offset, input.order(), output, bit);
+  }
+"""
+
+TABLE_BODY = """
+  // Number of bits that each of the 32 rows of a block is shifted by within its int, per bit width.
+%(shifts)s
+
+  /* Assumes that integers fit in the prescribed number of bits */
+  static void simdPack(int[] input, int[] output, int bit) {
+    if (bit < 1 || bit > 32) {
+      throw new UnsupportedOperationException();
+    }
+    if (bit == 32) {
+      copy(input, output);
+      return;
+    }
+    final byte[] shifts = SHIFTS[bit];
+    int outOff = 0;
+    IntVector outVec = IntVector.zero(SPECIES_128);
+    for (int i = 0; i < 32; i++) {
+      final int shift = shifts[i];
+      IntVector inVec = IntVector.fromArray(SPECIES_128, input, i << 2);
+      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);
+      if (shift + bit >= 32) {
+        outVec.intoArray(output, outOff);
+        outOff += 4;
+        outVec = inVec.lanewise(VectorOperators.LSHR, 32 - shift);
+      }
+    }
+  }
+
+  static void simdUnpack(int[] input, int[] output, int bit) {
+    if (bit < 1 || bit > 32) {
+      throw new UnsupportedOperationException();
+    }
+    if (bit == 32) {
+      copy(input, output);
+      return;
+    }
+    final byte[] shifts = SHIFTS[bit];
+    final int mask = (1 << bit) - 1;
+    int inOff = 0;
+    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);
+    for (int i = 0; i < 31; i++) {
+      final int shift = shifts[i];
+      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);
+      if (shift + bit >= 32) {
+        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);
+        if (shift + bit > 32) {
+          outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, 32 - shift));
+        }
+      }
+      outVec.and(mask).intoArray(output, i << 2);
+    }
+    inVec.lanewise(VectorOperators.LSHR, shifts[31]).intoArray(output, 124);
+  }
+
+  private static void copy(int[] input, int[] output) {
+    for (int i = 0; i < 128; i += 4) {
+      IntVector.fromArray(SPECIES_128, input, i).intoArray(output, i);
+    }
+  }
+
+  private static final VectorSpecies<Integer> SPECIES_128 = IntVector.SPECIES_128;
+"""
+
+
+def species(vbits):
+  return "SPECIES_%d" % vbits
+
+
+# Per mode: the C kernel it is ported from, the Java kernel name, the extra leading parameter, and
+# whether the kernel reads and writes at caller supplied offsets rather than at 0.
+PACK_MODES = {
+  None: ("SIMD_fastpackwithoutmask%d_32", "SIMD_fastPack%d", "", True),
+  "mask": ("__SIMD_fastpack%d_32", "SIMD_fastPackWithMask%d", "", True),
+  "d1": ("ipackwithoutmask%d", "SIMD_fastPackD1_%d", "IntVector initOffset, ", False),
+  "for": ("ipackFOR%d", "SIMD_fastPackFOR%d", "IntVector base, ", False),
+}
+
+# Per mode: the C kernel it is ported from, the Java kernel name, the parameters that precede output, and
+# whether the kernel reads and writes at caller supplied offsets rather than at 0. The search and aggregate
+# kernels have no output: they return the index of the first integer that is greater than or equal to target,
+# or the aggregate of the block combined with the one passed in.
+UNPACK_MODES = {
+  None: ("__SIMD_fastunpack%d_32", "SIMD_fastUnpack%d", "int[] input, int inOffset", True),
+  "d1": ("iunpack%d", "SIMD_fastUnpackD1_%d", "IntVector initOffset, int[] input", False),
+  "for": ("iunpackFOR%d", "SIMD_fastUnpackFOR%d", "IntVector base, int[] input", False),
+  "segment": ("__SIMD_fastunpack%d_32", "SIMD_fastUnpack%d", "MemorySegment input, long offset, ByteOrder order", False),
+  "search": ("__SIMD_fastunpack%d_32", "SIMD_fastFindNextGEQ%d", "int[] input, int target", False),
+  "search_d1": ("iunpack%d", "SIMD_fastFindNextGEQD1_%d", "IntVector initOffset, int[] input, int target", False),
+  "sum": ("__SIMD_fastunpack%d_32", "SIMD_fastUnpackSum%d", "int[] input, int inOffset, long sum", False),
+  "min": ("__SIMD_fastunpack%d_32", "SIMD_fastUnpackMin%d", "int[] input, int inOffset, int min", False),
+  "max": ("__SIMD_fastunpack%d_32", "SIMD_fastUnpackMax%d", "int[] input, int inOffset, int max", False),
+  "count": ("__SIMD_fastunpack%d_32", "SIMD_fastUnpackCount%d", "int[] input, int inOffset, int from, int to, int count", False),
+}
+
+SEARCH_MODES = ("search", "search_d1")
+
+# Per aggregate mode: the return type and the accumulator vectors, with their initial values.
+AGGREGATE_MODES = {
+  "sum": ("long", ["sumVec"], "zero"),
+  "sum_split": ("long", ["lowSum", "highSum"], "zero"),
+  "min": ("int", ["minVec"], "min"),
+  "max": ("int", ["maxVec"], "max"),
+  "count": ("int", ["countVec"], "zero"),
+}
+
+
+def aggregate_mode(mode, bpv):
+  # Each lane sums 32 integers of a block, and the 4 lane sums are added up as ints. Beyond 24 bits per value,
+  # that could overflow, so the low and high 16 bits of the integers are summed separately.
+  return "sum_split" if mode == "sum" and bpv > 24 else mode
+
+
+def aggregate_init(lines, sp, mode, indent="    "):
+  _, accumulators, init = AGGREGATE_MODES[mode]
+  for acc in accumulators:
+    if init == "zero":
+      lines.append("%sIntVector %s = IntVector.zero(%s);" % (indent, acc, sp))
+    else:
+      lines.append("%sIntVector %s = IntVector.broadcast(%s, %s);" % (indent, acc, sp, init))
+
+
+def aggregate_store(lines, mode, indent="    "):
+  """Emits the statements that fold outVec into the accumulators."""
+  if mode == "sum":
+    lines.append("%ssumVec = sumVec.add(outVec);" % indent)
+  elif mode == "sum_split":
+    lines.append("%slowSum = lowSum.add(outVec.and(0xFFFF));" % indent)
+    lines.append("%shighSum = highSum.add(outVec.lanewise(VectorOperators.ASHR, 16));" % indent)
+  elif mode == "min":
+    lines.append("%sminVec = minVec.min(outVec);" % indent)
+  elif mode == "max":
+    lines.append("%smaxVec = maxVec.max(outVec);" % indent)
+  else:
+    lines.append("%scountVec = countVec.add(1, outVec.compare(VectorOperators.GE, from).and(outVec.compare(VectorOperators.LE, to)));" % indent)
+
+
+def aggregate_return(lines, mode):
+  if mode == "sum":
+    lines.append("    return sum + sumVec.reduceLanes(VectorOperators.ADD);")
+  elif mode == "sum_split":
+    lines.append("    return sum + lowSum.reduceLanes(VectorOperators.ADD) + ((long) highSum.reduceLanes(VectorOperators.ADD) << 16);")
+  elif mode == "min":
+    lines.append("    return minVec.reduceLanes(VectorOperators.MIN);")
+  elif mode == "max":
+    lines.append("    return maxVec.reduceLanes(VectorOperators.MAX);")
+  else:
+    lines.append("    return count + countVec.reduceLanes(VectorOperators.ADD);")
+
+
+def pack_load(lines, sp, index, mode):
+  """Emits the statements that load the next input vector into inVec."""
+  load = "IntVector.fromArray(%s, input, %s)" % (sp, index)
+  if mode == "mask":
+    lines.append("    inVec = %s.and(mask);" % load)
+  elif mode == "for":
+    lines.append("    inVec = %s.sub(base);" % load)
+  elif mode == "d1":
+    lines.append("    currIn = %s;" % load)
+    lines.append("    inVec = delta(currIn, initOffset);")
+    lines.append("    initOffset = currIn;")
+  else:
+    lines.append("    inVec = %s;" % load)
+
+
+def unpack_load(sp, index, mode):
+  """Returns the expression that loads the input vector at int index."""
+  if mode == "segment":
+    if index == "0":
+      return "IntVector.fromMemorySegment(%s, input, offset, order)" % sp
+    if index.isidentifier():
+      return "IntVector.fromMemorySegment(%s, input, offset + 4L * %s, order)" % (sp, index)
+    return "IntVector.fromMemorySegment(%s, input, offset + 4L * (%s), order)" % (sp, index)
+  return "IntVector.fromArray(%s, input, %s)" % (sp, index)
+
+
+def unpack_store(lines, index, mode, first=0):
+  """Emits the statements that store outVec, or that search it, first being the index of its first lane."""
+  if mode in AGGREGATE_MODES:
+    aggregate_store(lines, mode)
+  elif mode in SEARCH_MODES:
+    if mode == "search_d1":
+      lines.append("    initOffset = prefixSum(outVec, initOffset);")
+      lines.append("    found = initOffset.compare(VectorOperators.GE, target);")
+    else:
+      lines.append("    found = outVec.compare(VectorOperators.GE, target);")
+    lines.append("    if (found.anyTrue()) {")
+    lines.append("      return %sfound.firstTrue();" % ("%d + " % first if first else ""))
+    lines.append("    }")
+  elif mode == "d1":
+    lines.append("    initOffset = prefixSum(outVec, initOffset);")
+    lines.append("    initOffset.intoArray(output, %s);" % index)
+  elif mode == "for":
+    lines.append("    outVec.add(base).intoArray(output, %s);" % index)
+  else:
+    lines.append("    outVec.intoArray(output, %s);" % index)
+
+
+def copy_kernel(lines, vbits, mode=None):
+  sp = species(vbits)
+  lanes = vbits // 32
+  if mode == "offset":
+    lines.append("    for (int i = 0; i < %d; i += %d) {" % (32 * lanes, lanes))
+    lines.append("      IntVector.fromArray(%s, input, inOffset + i).intoArray(output, outOffset + i);" % sp)
+    lines.append("    }")
+    return
+  lines.append("    for (int i = 0; i < %d; i += %d) {" % (32 * lanes, lanes))
+  if mode == "pack_d1":
+    lines.append("      IntVector currIn = IntVector.fromArray(%s, input, i);" % sp)
+    lines.append("      delta(currIn, initOffset).intoArray(output, i);")
+    lines.append("      initOffset = currIn;")
+  elif mode == "unpack_d1":
+    lines.append("      initOffset = prefixSum(IntVector.fromArray(%s, input, i), initOffset);" % sp)
+    lines.append("      initOffset.intoArray(output, i);")
+  elif mode == "pack_for":
+    lines.append("      IntVector.fromArray(%s, input, i).sub(base).intoArray(output, i);" % sp)
+  elif mode == "unpack_for":
+    lines.append("      IntVector.fromArray(%s, input, i).add(base).intoArray(output, i);" % sp)
+  elif mode == "unpack_segment":
+    lines.append("      %s.intoArray(output, i);" % unpack_load(sp, "i", "segment"))
+  elif mode in ("unpack_search", "unpack_search_d1"):
+    lines.append("      final IntVector outVec = IntVector.fromArray(%s, input, i);" % sp)
+    if mode == "unpack_search_d1":
+      lines.append("      initOffset = prefixSum(outVec, initOffset);")
+      lines.append("      final VectorMask<Integer> found = initOffset.compare(VectorOperators.GE, target);")
+    else:
+      lines.append("      final VectorMask<Integer> found = outVec.compare(VectorOperators.GE, target);")
+    lines.append("      if (found.anyTrue()) {")
+    lines.append("        return i + found.firstTrue();")
+    lines.append("      }")
+  else:
+    lines.append("      IntVector.fromArray(%s, input, i).intoArray(output, i);" % sp)
+  lines.append("    }")
+
+
+def unrolled_pack(bpv, vbits, mode=None):
+  sp = species(vbits)
+  lanes = vbits // 32
+  c_name, name, param, offsets = PACK_MODES[mode]
+  lines = []
+  w = lines.append
+  w("  // " + c_name % bpv)
+  if offsets:
+    w("  static void %s(int[] input, int inOffset, int[] output, int outOffset) {" % (name % bpv))
+  else:
+    w("  static void %s(%sint[] input, int[] output) {" % (name % bpv, param))
+  if bpv == 32:
+    copy_kernel(lines, vbits, "offset" if offsets else "pack_" + mode if mode in ("d1", "for") else None)
+    w("  }")
+    return lines
+  w("    int inOff = %s;" % ("inOffset" if offsets else "0"))
+  w("    int outOff = %s;" % ("outOffset" if offsets else "0"))
+  if mode == "mask":
+    w("    final int mask = (1 << %d) - 1;" % bpv)
+  w("")
+  w("    IntVector outVec;")
+  if mode == "d1":
+    w("    IntVector currIn;")
+    w("    IntVector inVec;")
+    pack_load(lines, sp, "inOff", mode)
+  else:
+    w("    IntVector inVec = IntVector.fromArray(%s, input, inOff)%s;" % (sp, {"mask": ".and(mask)", "for": ".sub(base)"}.get(mode, "")))
+  w("")
+  fresh = True
+  for i in range(32):
+    shift = (i * bpv) % 32
+    if fresh:
+      w("    outVec = inVec;")
+      fresh = False
+    else:
+      w("    outVec = inVec.lanewise(VectorOperators.LSHL, %d).or(outVec);" % shift)
+    if shift + bpv >= 32:
+      w("    outVec.intoArray(output, outOff);")
+      if i < 31:
+        w("    outOff+=%d;" % lanes)
+        if shift + bpv > 32:
+          w("    outVec = inVec.lanewise(VectorOperators.LSHR, %d - %d);" % (bpv, shift + bpv - 32))
+        else:
+          fresh = True
+    if i < 31:
+      pack_load(lines, sp, "inOff+=%d" % lanes, mode)
+      w("")
+  w("  }")
+  return lines
+
+
+def unrolled_pack_with_mask(bpv, vbits):
+  return unrolled_pack(bpv, vbits, "mask")
+
+
+def unrolled_pack_d1(bpv, vbits):
+  return unrolled_pack(bpv, vbits, "d1")
+
+
+def unrolled_unpack(bpv, vbits, mode=None):
+  sp = species(vbits)
+  lanes = vbits // 32
+  c_name, name, params, offsets = UNPACK_MODES[mode]
+  lines = []
+  w = lines.append
+  w("  // " + c_name % bpv)
+  if mode in SEARCH_MODES:
+    w("  static int %s(%s) {" % (name % bpv, params))
+  elif mode in AGGREGATE_MODES:
+    w("  static %s %s(%s) {" % (AGGREGATE_MODES[mode][0], name % bpv, params))
+    mode = aggregate_mode(mode, bpv)
+    aggregate_init(lines, sp, mode)
+  else:
+    w("  static void %s(%s, int[] output%s) {" % (name % bpv, params, ", int outOffset" if offsets else ""))
+  if bpv == 32 and mode in AGGREGATE_MODES:
+    w("    for (int i = 0; i < %d; i += %d) {" % (32 * lanes, lanes))
+    w("      final IntVector outVec = IntVector.fromArray(%s, input, inOffset + i);" % sp)
+    aggregate_store(lines, mode, "      ")
+    w("    }")
+    aggregate_return(lines, mode)
+    w("  }")
+    return lines
+  if bpv == 32:
+    copy_kernel(lines, vbits, "offset" if offsets else "unpack_" + mode if mode in ("d1", "for", "segment") + SEARCH_MODES else None)
+    if mode in SEARCH_MODES:
+      w("    return %d;" % (32 * lanes))
+    w("  }")
+    return lines
+  in_offset = "inOffset" if offsets or mode in AGGREGATE_MODES else "0"
+  w("    IntVector inVec = %s;" % unpack_load(sp, in_offset, mode))
+  w("    IntVector outVec;")
+  w("    int inOff = %s;" % in_offset)
+  if mode in SEARCH_MODES:
+    w("    VectorMask<Integer> found;")
+  elif mode not in AGGREGATE_MODES:
+    w("    int outOff = %s;" % ("outOffset" if offsets else "0"))
+  w("    final int mask = (1 << %d) - 1;" % bpv)
+  w("")
+  for i in range(32):
+    shift = (i * bpv) % 32
+    index = "outOff" if i == 0 else "outOff+=%d" % lanes
+    if shift + bpv < 32:
+      if shift == 0:
+        w("    outVec = inVec.and(mask);")
+      else:
+        w("    outVec = inVec.lanewise(VectorOperators.LSHR, %d).and(mask);" % shift)
+      unpack_store(lines, index, mode, i * lanes)
+      w("")
+    elif shift + bpv == 32:
+      w("    outVec = inVec.lanewise(VectorOperators.LSHR, %d);" % shift)
+      unpack_store(lines, index, mode, i * lanes)
+      w("")
+      if i < 31:
+        w("    inVec = %s;" % unpack_load(sp, "inOff+=%d" % lanes, mode))
+        w("")
+    else:
+      w("    outVec = inVec.lanewise(VectorOperators.LSHR, %d);" % shift)
+      w("    inVec = %s;" % unpack_load(sp, "inOff+=%d" % lanes, mode))
+      w("    outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, %d - %d).and(mask));" % (bpv, shift + bpv - 32))
+      unpack_store(lines, index, mode, i * lanes)
+      w("")
+  while lines[-1] == "":
+    lines.pop()
+  if mode in SEARCH_MODES:
+    w("    return %d;" % (32 * lanes))
+  elif mode in AGGREGATE_MODES:
+    aggregate_return(lines, mode)
+  w("  }")
+  return lines
+
+
+def unrolled_unpack_d1(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "d1")
+
+
+def unrolled_search(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "search")
+
+
+def unrolled_search_d1(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "search_d1")
+
+
+def unrolled_sum(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "sum")
+
+
+def unrolled_min(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "min")
+
+
+def unrolled_max(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "max")
+
+
+def unrolled_count(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "count")
+
+
+def unrolled_unpack_segment(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "segment")
+
+
+def unrolled_pack_for(bpv, vbits):
+  return unrolled_pack(bpv, vbits, "for")
+
+
+def unrolled_unpack_for(bpv, vbits):
+  return unrolled_unpack(bpv, vbits, "for")
+
+
+def loop_pack(bpv, vbits):
+  lines = []
+  w = lines.append
+  w("  static void SIMD_fastPack%d(int[] input, int[] output) {" % bpv)
+  if bpv == 32:
+    copy_kernel(lines, vbits)
+    w("  }")
+    return lines
+  w("    IntVector outVec = IntVector.zero(SPECIES_128);")
+  w("    int outOff = 0;")
+  w("    int shift = 0;")
+  w("    for (int inOff = 0; inOff < 128; inOff += 4) {")
+  w("      IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);")
+  w("      outVec = inVec.lanewise(VectorOperators.LSHL, shift).or(outVec);")
+  w("      shift += %d;" % bpv)
+  w("      if (shift >= 32) {")
+  w("        outVec.intoArray(output, outOff);")
+  w("        outOff += 4;")
+  w("        shift -= 32;")
+  w("        outVec = inVec.lanewise(VectorOperators.LSHR, %d - shift);" % bpv)
+  w("      }")
+  w("    }")
+  w("  }")
+  return lines
+
+
+def loop_unpack(bpv, vbits):
+  lines = []
+  w = lines.append
+  w("  static void SIMD_fastUnpack%d(int[] input, int[] output) {" % bpv)
+  if bpv == 32:
+    copy_kernel(lines, vbits)
+    w("  }")
+    return lines
+  w("    final int mask = (1 << %d) - 1;" % bpv)
+  w("    int inOff = 0;")
+  w("    int shift = 0;")
+  w("    IntVector inVec = IntVector.fromArray(SPECIES_128, input, inOff);")
+  w("    for (int outOff = 0; outOff < 124; outOff += 4) {")
+  w("      IntVector outVec = inVec.lanewise(VectorOperators.LSHR, shift);")
+  w("      shift += %d;" % bpv)
+  w("      if (shift >= 32) {")
+  w("        inVec = IntVector.fromArray(SPECIES_128, input, inOff += 4);")
+  w("        shift -= 32;")
+  w("        outVec = outVec.or(inVec.lanewise(VectorOperators.LSHL, %d - shift));" % bpv)
+  w("      }")
+  w("      outVec.and(mask).intoArray(output, outOff);")
+  w("    }")
+  w("    inVec.lanewise(VectorOperators.LSHR, %d).intoArray(output, 124);" % (32 - bpv))
+  w("  }")
+  return lines
+
+
+def dispatch_cases(method, args="input, output"):
+  return "\n".join("      case %d: %s%d(%s); return;" % (bpv, method, bpv, args) for bpv in range(1, 33))
+
+
+def returning_dispatch_cases(method, args):
+  return "\n".join("      case %d: return %s%d(%s);" % (bpv, method, bpv, args) for bpv in range(1, 33))
+
+
+def run_cases(method, lanes, block):
+  cases = []
+  for bpv in range(1, 33):
+    cases.append("""        case %(bpv)d:
+          for (int i = 0; i < runLength; i++) {
+            %(method)s%(bpv)d(input, inOffset + i * %(numInts)d, output, outOffset + i * %(block)d);
+          }
+          break;""" % {"bpv": bpv, "method": method, "numInts": bpv * lanes, "block": block})
+  return "\n".join(cases)
+
+
+def write_per_width_class(f, class_name, doc, dispatch, kernels, vbits=128):
+  imports = IMPORTS + (["jdk.incubator.vector.VectorShuffle"] if D1_DISPATCH in dispatch else [])
+  if RANDOM_ACCESS_DISPATCH in dispatch:
+    imports += ["java.util.Arrays", "jdk.incubator.vector.VectorMask"]
+  if SEGMENT_DISPATCH in dispatch:
+    imports += ["java.lang.foreign.MemorySegment", "java.nio.ByteBuffer", "java.nio.ByteOrder"]
+  write_header(f, imports)
+  f.write(doc % {"vbits": vbits, "lanes": vbits // 32, "block": vbits})
+  f.write("public class %s {\n" % class_name)
+  for template in dispatch:
+    f.write(template % {"pack": dispatch_cases("SIMD_fastPack"), "unpack": dispatch_cases("SIMD_fastUnpack"),
+                        "packOffset": dispatch_cases("SIMD_fastPack", "input, inOffset, output, outOffset"),
+                        "unpackOffset": dispatch_cases("SIMD_fastUnpack", "input, inOffset, output, outOffset"),
+                        "unpackRun": run_cases("SIMD_fastUnpack", vbits // 32, vbits),
+                        "packWithMask": dispatch_cases("SIMD_fastPackWithMask", "input, inOffset, output, outOffset"),
+                        "packD1": dispatch_cases("SIMD_fastPackD1_", "init, input, output"),
+                        "unpackD1": dispatch_cases("SIMD_fastUnpackD1_", "init, input, output"),
+                        "packFOR": dispatch_cases("SIMD_fastPackFOR", "baseVec, input, output"),
+                        "unpackFOR": dispatch_cases("SIMD_fastUnpackFOR", "baseVec, input, output"),
+                        "unpackSegment": dispatch_cases("SIMD_fastUnpack", "input, offset, order, output"),
+                        "search": returning_dispatch_cases("SIMD_fastFindNextGEQ", "input, target"),
+                        "searchD1": returning_dispatch_cases("SIMD_fastFindNextGEQD1_", "init, input, target"),
+                        "unpackSum": returning_dispatch_cases("SIMD_fastUnpackSum", "input, inOffset, sum"),
+                        "unpackMin": returning_dispatch_cases("SIMD_fastUnpackMin", "input, inOffset, min"),
+                        "unpackMax": returning_dispatch_cases("SIMD_fastUnpackMax", "input, inOffset, max"),
+                        "unpackCount": returning_dispatch_cases("SIMD_fastUnpackCount", "input, inOffset, from, to, count"),
+                        "species": species(vbits), "block": vbits, "lanes": vbits // 32,
+                        "lanesShift": (vbits // 32).bit_length() - 1, "laneMask": vbits // 32 - 1})
+  for kernel in kernels:
+    for bpv in range(1, 33):
+      f.write("\n")
+      f.write("\n".join(kernel(bpv, vbits)))
+      f.write("\n")
+  f.write("}\n")
+
+
+def write_table_class(f, class_name, doc):
+  rows = ["    null,"]
+  for bpv in range(1, 33):
+    shifts = ", ".join(str((i * bpv) % 32) for i in range(32))
+    rows.append("    { %s }," % shifts)
+  shifts = "  private static final byte[][] SHIFTS = {\n%s\n  };" % "\n".join(rows)
+  write_header(f)
+  f.write(doc)
+  f.write("public class %s {\n" % class_name)
+  f.write(TABLE_BODY % {"shifts": shifts})
+  f.write("}\n")
+
+
+UNROLLED_DISPATCH = [UNROLLED_PACK_DISPATCH, MASKED_DISPATCH, UNROLLED_UNPACK_DISPATCH, BATCH_DISPATCH, MAXBITS_DISPATCH,
+                     RANDOM_ACCESS_DISPATCH]
+UNROLLED_KERNELS = [unrolled_pack, unrolled_pack_with_mask, unrolled_unpack]
+
+# The integrated (delta), frame of reference, MemorySegment, search and aggregate kernels are only generated for
+# 128 int blocks, the block size of postings and doc values.
+UNROLLED_128_DISPATCH = UNROLLED_DISPATCH + [D1_DISPATCH, FOR_DISPATCH, SEGMENT_DISPATCH, SEARCH_DISPATCH,
+                                             AGGREGATE_DISPATCH]
+UNROLLED_128_KERNELS = UNROLLED_KERNELS + [unrolled_pack_d1, unrolled_unpack_d1, unrolled_pack_for, unrolled_unpack_for,
+                                           unrolled_unpack_segment, unrolled_search, unrolled_search_d1, unrolled_sum,
+                                           unrolled_min, unrolled_max, unrolled_count]
+
+SHAPES = {
+  "unrolled": [
+    ("SimdBitPacking", lambda f, name: write_per_width_class(f, name, UNROLLED_DOC, UNROLLED_128_DISPATCH, UNROLLED_128_KERNELS)),
+    ("SimdBitPacking256", lambda f, name: write_per_width_class(f, name, WIDE_DOC, UNROLLED_DISPATCH, UNROLLED_KERNELS, 256)),
+    ("SimdBitPacking512", lambda f, name: write_per_width_class(f, name, WIDE_DOC, UNROLLED_DISPATCH, UNROLLED_KERNELS, 512)),
+  ],
+  "loop": [("SimdBitPackingLoop", lambda f, name: write_per_width_class(f, name, LOOP_DOC, [PACK_DISPATCH, UNPACK_DISPATCH], [loop_pack, loop_unpack]))],
+  "table": [("SimdBitPackingTable", lambda f, name: write_table_class(f, name, TABLE_DOC))],
+}
+
+
+if __name__ == "__main__":
+  shapes = sys.argv[1:] or list(SHAPES)
+  for shape in shapes:
+    if shape not in SHAPES:
+      sys.exit("unknown shape: %s, expected one of %s" % (shape, ", ".join(SHAPES)))
+    for class_name, write in SHAPES[shape]:
+      with open(class_name + ".java", "w") as f:
+        write(f, class_name)
@@ -16,13 +16,21 @@
  */
 package org.apache.lucene.test;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.LongStream;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 // Just a sanity that the copied ForUtil works as expected before we benchmark it.
 public class TestHackedForUtil {
@@ -31,6 +39,9 @@ public class TestHackedForUtil {
 
     final ForUtil forUtil = new ForUtil();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void encodeDecode1() throws Exception {
         final int bitsPerValue = 1;
@@ -100,4 +111,240 @@ public class TestHackedForUtil {
             assertArrayEquals(copy, unpacked);
         }
     }
+
+    @Test
+    public void maxBits() {
+        assertEquals(0, ForUtil.maxBits(new long[128]));
+        for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+            final long maxValue = (1L << bitsPerValue) - 1;
+            long[] input = LongStream.range(0, 128).map(x -> random.nextLong(maxValue + 1)).toArray();
+            input[random.nextInt(128)] = maxValue;
+            assertEquals(bitsPerValue, ForUtil.maxBits(input));
+        }
+    }
+
+    @Test
+    public void getSingleValues() throws Exception {
+        for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+            long[] packed = new long[bitsPerValue * 2];
+            long[] input = random.longs(128, 0, 1L << bitsPerValue).toArray();
+            forUtil.encode(input, bitsPerValue, packed);
+            for (int i = 0; i < 128; i++) {
+                assertEquals("bitsPerValue=" + bitsPerValue, input[i], ForUtil.get(packed, bitsPerValue, i));
+            }
+        }
+    }
+
+    @Test
+    public void aggregate() throws Exception {
+        final int numBlocks = 32 + random.nextInt(32);
+        long[][] blocks = new long[numBlocks][];
+        int[] bitsPerValues = new int[numBlocks];
+        ByteBuffer buffer = ByteBuffer.allocate(numBlocks * forUtil.numBytes(32));
+        ByteBufferDataOutput out = new ByteBufferDataOutput(buffer);
+        long[] tmp = new long[ForUtil.SCRATCH_SIZE];
+        for (int i = 0; i < numBlocks; i++) {
+            // every width at least once
+            bitsPerValues[i] = i < 32 ? i + 1 : 1 + random.nextInt(32);
+            blocks[i] = random.longs(128, 0, 1L << bitsPerValues[i]).toArray();
+            ForUtil.encode(blocks[i], bitsPerValues[i], out, tmp);
+        }
+
+        long[] longs = new long[ForUtil.SCRATCH_SIZE];
+        long sum = 0;
+        ByteBufferDataInput in = new ByteBufferDataInput(buffer);
+        for (int i = 0; i < numBlocks; i++) {
+            final String message = "bitsPerValue=" + bitsPerValues[i];
+            sum = ForUtil.sum(bitsPerValues[i], in, tmp, longs, sum);
+            assertEquals(message, Arrays.stream(blocks, 0, i + 1).flatMapToLong(Arrays::stream).sum(), sum);
+        }
+        in = new ByteBufferDataInput(buffer);
+        for (int i = 0; i < numBlocks; i++) {
+            final String message = "bitsPerValue=" + bitsPerValues[i];
+            assertEquals(message, Arrays.stream(blocks[i]).min().getAsLong(),
+                    ForUtil.min(bitsPerValues[i], in, tmp, longs, Long.MAX_VALUE));
+        }
+        in = new ByteBufferDataInput(buffer);
+        for (int i = 0; i < numBlocks; i++) {
+            final String message = "bitsPerValue=" + bitsPerValues[i];
+            assertEquals(message, Arrays.stream(blocks[i]).max().getAsLong(),
+                    ForUtil.max(bitsPerValues[i], in, tmp, longs, -1));
+        }
+        in = new ByteBufferDataInput(buffer);
+        for (int i = 0; i < numBlocks; i++) {
+            final long from = blocks[i][random.nextInt(128)];
+            final long to = random.nextBoolean() ? from : blocks[i][random.nextInt(128)];
+            assertEquals("bitsPerValue=" + bitsPerValues[i], Arrays.stream(blocks[i]).filter(x -> x >= from && x <= to).count(),
+                    ForUtil.count(bitsPerValues[i], in, tmp, longs, from, to, 0));
+        }
+    }
+
+    @Test
+    public void longArrayDataInputOutputBytes() throws Exception {
+        // unaligned bytes, ints and longs, then aligned longs, laid out as by the little endian ByteBuffer
+        // implementations, over a long[] that holds garbage
+        ByteBuffer buffer = ByteBuffer.allocate(8 * 8);
+        ByteBufferDataOutput bufferOut = new ByteBufferDataOutput(buffer);
+        ForUtil.LongArrayDataOutput out = new ForUtil.LongArrayDataOutput();
+        long[] longs = random.longs(8).toArray();
+        out.reset(longs);
+        final byte b = (byte) random.nextInt();
+        final int i = random.nextInt();
+        final long l = random.nextLong();
+        final long[] aligned = random.longs(3).toArray();
+        for (DataOutput o : new DataOutput[] {out, bufferOut}) {
+            o.writeByte(b);
+            o.writeInt(i);
+            o.writeLong(l);
+            o.writeByte(b);
+            o.writeInt(i);
+            for (int j = 0; j < 6; j++) {
+                o.writeByte(b);
+            }
+            o.writeLong(aligned[0]);
+            o.writeLong(aligned[1]);
+            o.writeLong(aligned[2]);
+        }
+        ByteBufferDataInput bufferIn = new ByteBufferDataInput(buffer);
+        for (int j = 0; j < 6; j++) {
+            assertEquals(bufferIn.readLong(), longs[j]);
+        }
+
+        ForUtil.LongArrayDataInput in = new ForUtil.LongArrayDataInput();
+        in.reset(longs);
+        assertEquals(b, in.readByte());
+        assertEquals(i, in.readInt());
+        assertEquals(l, in.readLong());
+        assertEquals(b, in.readByte());
+        assertEquals(i, in.readInt());
+        for (int j = 0; j < 6; j++) {
+            assertEquals(b, in.readByte());
+        }
+        long[] dst = new long[3];
+        in.readLongs(dst, 0, 3);
+        assertArrayEquals(aligned, dst);
+    }
+
+    @Test
+    public void encodeDecodeAllWidths() throws Exception {
+        for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+            long[] packed = new long[bitsPerValue * 2];
+            long[] input = random.longs(128, 0, 1L << bitsPerValue).toArray();
+            long[] inputCopy = Arrays.copyOf(input, input.length);
+            forUtil.encode(input, bitsPerValue, packed);
+            assertArrayEquals("bitsPerValue=" + bitsPerValue, inputCopy, input);
+            long[] packedCopy = Arrays.copyOf(packed, packed.length);
+            long[] unpacked = new long[128];
+            forUtil.decode(bitsPerValue, packed, unpacked);
+            assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+            assertArrayEquals("bitsPerValue=" + bitsPerValue, packedCopy, packed);
+        }
+    }
+
+    @Test
+    public void encodeDecodeAllZeros() throws Exception {
+        long[] input = new long[128];
+        final int bitsPerValue = ForUtil.maxBits(input);
+        assertEquals(0, bitsPerValue);
+        assertEquals(0, forUtil.numBytes(bitsPerValue));
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        ByteBufferDataOutput out = new ByteBufferDataOutput(buffer);
+        forUtil.encode(input, bitsPerValue, out);
+        assertEquals(0, out.position());
+
+        long[] unpacked = random.longs(128).toArray();
+        forUtil.decode(bitsPerValue, new ByteBufferDataInput(buffer), unpacked);
+        assertArrayEquals(input, unpacked);
+        long[] unpacked32 = random.longs(128).toArray();
+        forUtil.decodeTo32(bitsPerValue, new ByteBufferDataInput(buffer), unpacked32);
+        assertArrayEquals(new long[64], Arrays.copyOf(unpacked32, 64));
+        assertEquals(0, ForUtil.get(new long[0], bitsPerValue, random.nextInt(128)));
+
+        long[] tmp = new long[ForUtil.SCRATCH_SIZE];
+        long[] longs = random.longs(ForUtil.SCRATCH_SIZE).toArray();
+        ByteBufferDataInput in = new ByteBufferDataInput(buffer);
+        assertEquals(42, ForUtil.sum(bitsPerValue, in, tmp, longs, 42));
+        assertEquals(0, ForUtil.min(bitsPerValue, in, tmp, longs, Long.MAX_VALUE));
+        assertEquals(0, ForUtil.max(bitsPerValue, in, tmp, longs, -1));
+        assertEquals(128, ForUtil.count(bitsPerValue, in, tmp, longs, 0, 5, 0));
+        assertEquals(0, ForUtil.count(bitsPerValue, in, tmp, longs, 1, 5, 0));
+    }
+
+    @Test
+    public void encodeDecodeStreaming() throws Exception {
+        final int numBlocks = 1 + random.nextInt(50);
+        long[][] blocks = new long[numBlocks][];
+        int[] bitsPerValues = new int[numBlocks];
+        ByteBuffer buffer = ByteBuffer.allocate(numBlocks * forUtil.numBytes(31));
+        ByteBufferDataOutput out = new ByteBufferDataOutput(buffer);
+        for (int i = 0; i < numBlocks; i++) {
+            bitsPerValues[i] = 1 + random.nextInt(31);
+            blocks[i] = random.longs(128, 0, 1L << bitsPerValues[i]).toArray();
+            final int start = out.position();
+            forUtil.encode(Arrays.copyOf(blocks[i], 128), bitsPerValues[i], out);
+            assertEquals(forUtil.numBytes(bitsPerValues[i]), out.position() - start);
+        }
+
+        long[] unpacked = new long[128];
+        ByteBufferDataInput heapIn = new ByteBufferDataInput(buffer);
+        for (int i = 0; i < numBlocks; i++) {
+            forUtil.decode(bitsPerValues[i], heapIn, unpacked);
+            assertArrayEquals("block=" + i, blocks[i], unpacked);
+        }
+        assertEquals(out.position(), heapIn.position());
+
+        Path path = folder.newFile().toPath();
+        Files.write(path, Arrays.copyOf(buffer.array(), out.position()));
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegmentDataInput mmapIn = MemorySegmentDataInput.map(path, arena);
+            for (int i = 0; i < numBlocks; i++) {
+                forUtil.decode(bitsPerValues[i], mmapIn, unpacked);
+                assertArrayEquals("block=" + i, blocks[i], unpacked);
+            }
+            assertEquals(out.position(), mmapIn.position());
+        }
+    }
+
+    @Test
+    public void concurrentDecodeWithCallerScratch() throws Exception {
+        final int numBlocks = 1 + random.nextInt(50);
+        long[][] blocks = new long[numBlocks][];
+        int[] bitsPerValues = new int[numBlocks];
+        ByteBuffer buffer = ByteBuffer.allocate(numBlocks * forUtil.numBytes(31));
+        ByteBufferDataOutput out = new ByteBufferDataOutput(buffer);
+        long[] tmp = new long[ForUtil.SCRATCH_SIZE];
+        for (int i = 0; i < numBlocks; i++) {
+            bitsPerValues[i] = 1 + random.nextInt(31);
+            blocks[i] = random.longs(128, 0, 1L << bitsPerValues[i]).toArray();
+            ForUtil.encode(Arrays.copyOf(blocks[i], 128), bitsPerValues[i], out, tmp);
+        }
+
+        // many threads decode the same blocks at once, each with its own scratch array and position
+        Thread[] threads = new Thread[4];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    long[] threadTmp = new long[ForUtil.SCRATCH_SIZE];
+                    long[] unpacked = new long[128];
+                    for (int iter = 0; iter < 100; iter++) {
+                        ByteBufferDataInput in = new ByteBufferDataInput(buffer);
+                        for (int i = 0; i < numBlocks; i++) {
+                            ForUtil.decode(bitsPerValues[i], in, threadTmp, unpacked);
+                            assertArrayEquals("block=" + i, blocks[i], unpacked);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
 }
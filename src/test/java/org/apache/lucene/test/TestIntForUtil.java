@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestIntForUtil {
+
+  final Random random = new Random();
+
+  final IntForUtil forUtil = new IntForUtil();
+
+  @Test
+  public void encodeDecode() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      int[] packed = new int[bitsPerValue * 4];
+      for (int i = 0; i < 10; i++) {
+        final int bits = bitsPerValue;
+        int[] input = random.ints(128).map(x -> x >>> (32 - bits)).toArray();
+        int[] copy = Arrays.copyOf(input, input.length);
+        forUtil.encode(input, bitsPerValue, packed);
+        assertArrayEquals(copy, input);
+        int[] packedCopy = Arrays.copyOf(packed, packed.length);
+        int[] decoded = new int[128];
+        forUtil.decode(bitsPerValue, packed, decoded);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, decoded);
+        assertArrayEquals(packedCopy, packed);
+      }
+    }
+  }
+
+  @Test
+  public void encodeDecodeStreaming() throws Exception {
+    final int numBlocks = 1 + random.nextInt(50);
+    int[][] blocks = new int[numBlocks][];
+    int[] bitsPerValues = new int[numBlocks];
+    ByteBuffer buffer = ByteBuffer.allocate(numBlocks * 32 * 16);
+    ByteBufferDataOutput out = new ByteBufferDataOutput(buffer);
+    for (int i = 0; i < numBlocks; i++) {
+      final int bits = bitsPerValues[i] = 1 + random.nextInt(32);
+      blocks[i] = random.ints(128).map(x -> x >>> (32 - bits)).toArray();
+      final int start = out.position();
+      forUtil.encode(blocks[i], bits, out);
+      assertEquals(new ForUtil().numBytes(bits), out.position() - start);
+    }
+    ByteBufferDataInput in = new ByteBufferDataInput(buffer);
+    int[] decoded = new int[128];
+    for (int i = 0; i < numBlocks; i++) {
+      forUtil.decode(bitsPerValues[i], in, decoded);
+      assertArrayEquals("block=" + i, blocks[i], decoded);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestIntSequenceReader {
+
+  final Random random = new Random();
+
+  @Test
+  public void blocks() throws Exception {
+    for (IntSequenceFormat format : IntSequenceFormat.values()) {
+      for (int length : new int[] { 0, 1, 127, 128, 129, 256, 1 + random.nextInt(2000) }) {
+        int[] values = randomValues(length);
+        ByteBuffer buffer = ByteBuffer.allocate(maxBytes(length));
+        IntSequenceWriter.encode(values, format, new ByteBufferDataOutput(buffer));
+
+        IntSequenceReader reader = new IntSequenceReader(new ByteBufferDataInput(buffer));
+        assertEquals(format, reader.format());
+        int[] ints = new int[128];
+        int upTo = 0;
+        for (int count; (count = reader.nextBlock(ints)) > 0; upTo += count) {
+          assertArrayEquals("format=" + format + " length=" + length,
+              Arrays.copyOfRange(values, upTo, upTo + count), Arrays.copyOf(ints, count));
+        }
+        assertEquals(length, upTo);
+        assertEquals(0, reader.nextBlock(ints));
+      }
+    }
+  }
+
+  @Test
+  public void iterator() throws Exception {
+    for (IntSequenceFormat format : IntSequenceFormat.values()) {
+      final int length = random.nextInt(2000);
+      int[] values = randomValues(length);
+      ByteBuffer buffer = ByteBuffer.allocate(maxBytes(length));
+      IntSequenceWriter writer = new IntSequenceWriter(new ByteBufferDataOutput(buffer), format);
+      // mix the ways of adding integers
+      int upTo = 0;
+      while (upTo < length) {
+        final int chunk = Math.min(length - upTo, random.nextInt(300));
+        switch (random.nextInt(3)) {
+          case 0:
+            writer.add(values, upTo, chunk);
+            break;
+          case 1:
+            writer.add(IntStream.of(values).skip(upTo).limit(chunk));
+            break;
+          default:
+            for (int i = upTo; i < upTo + chunk; i++) {
+              writer.add(values[i]);
+            }
+        }
+        upTo += chunk;
+      }
+      writer.finish();
+
+      PrimitiveIterator.OfInt it = new IntSequenceReader(new ByteBufferDataInput(buffer)).iterator();
+      for (int i = 0; i < length; i++) {
+        assertTrue(it.hasNext());
+        assertEquals("format=" + format + " i=" + i, values[i], it.nextInt());
+      }
+      assertFalse(it.hasNext());
+    }
+  }
+
+  @Test
+  public void consecutiveSequences() throws Exception {
+    int[] first = randomValues(300);
+    int[] second = new int[200];
+    ByteBuffer buffer = ByteBuffer.allocate(maxBytes(first.length) + maxBytes(second.length));
+    ByteBufferDataOutput out = new ByteBufferDataOutput(buffer);
+    IntSequenceWriter.encode(first, IntSequenceFormat.SIMD, out);
+    IntSequenceWriter.encode(second, IntSequenceFormat.FOR, out);
+
+    ByteBufferDataInput in = new ByteBufferDataInput(buffer);
+    assertArrayEquals(first, toArray(new IntSequenceReader(in)));
+    assertArrayEquals(second, toArray(new IntSequenceReader(in)));
+    assertEquals(out.position(), in.position());
+  }
+
+  // Blocks of random bit widths, some of them all zeros
+  int[] randomValues(int length) {
+    int[] values = new int[length];
+    for (int start = 0; start < length; start += 128) {
+      final int bits = random.nextInt(33);
+      for (int i = start; i < Math.min(length, start + 128); i++) {
+        values[i] = bits == 0 ? 0 : random.nextInt() >>> (32 - bits);
+      }
+    }
+    return values;
+  }
+
+  static int maxBytes(int length) {
+    return 1 + (length / 128 + 1) * (2 + 128 * Integer.BYTES);
+  }
+
+  static int[] toArray(IntSequenceReader reader) {
+    IntStream.Builder builder = IntStream.builder();
+    for (PrimitiveIterator.OfInt it = reader.iterator(); it.hasNext(); ) {
+      builder.add(it.nextInt());
+    }
+    return builder.build().toArray();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestPForUtil {
+
+  final Random random = new Random();
+
+  @Test
+  public void encodeDecode() {
+    final PForUtil pforUtil = new PForUtil();
+    int[] encoded = new int[PForUtil.numInts(32, 0)];
+    for (int bits = 1; bits <= 32; bits++) {
+      for (int i = 0; i < 20; i++) {
+        int[] input = randomInput(bits, random.nextInt(20));
+        int[] copy = Arrays.copyOf(input, input.length);
+        int written = pforUtil.encode(input, encoded);
+        int[] decoded = new int[128];
+        assertEquals(written, pforUtil.decode(encoded, decoded));
+        assertArrayEquals(input, decoded);
+        assertArrayEquals(input, copy);
+      }
+    }
+  }
+
+  @Test
+  public void outliersArePatched() {
+    final PForUtil pforUtil = new PForUtil();
+    int[] input = new int[128];
+    for (int i = 0; i < input.length; i++) {
+      input[i] = random.nextInt(1 << 3);
+    }
+    input[7] = Integer.MAX_VALUE;
+    input[64] = 1 << 20;
+    input[127] = -1;
+
+    assertEquals(3, PForUtil.bitsPerValue(input));
+    int[] encoded = new int[PForUtil.numInts(32, 0)];
+    int written = pforUtil.encode(input, encoded);
+    assertEquals(PForUtil.numInts(3, 3), written);
+    assertTrue(written < 32 * 4);
+    int[] decoded = new int[128];
+    pforUtil.decode(encoded, decoded);
+    assertArrayEquals(input, decoded);
+  }
+
+  @Test
+  public void bitsPerValueMinimizesSize() {
+    for (int i = 0; i < 100; i++) {
+      int[] input = randomInput(1 + random.nextInt(32), random.nextInt(40));
+      int best = PForUtil.bitsPerValue(input);
+      int bestNumInts = PForUtil.numInts(best, numExceptions(input, best));
+      for (int bits = 1; bits <= 32; bits++) {
+        assertTrue(bestNumInts <= PForUtil.numInts(bits, numExceptions(input, bits)));
+      }
+    }
+  }
+
+  /** Values of {@code bits} bits, with {@code numOutliers} of them replaced by random 32 bit values. */
+  int[] randomInput(int bits, int numOutliers) {
+    int[] input = new int[128];
+    for (int i = 0; i < input.length; i++) {
+      input[i] = random.nextInt() >>> (32 - bits);
+    }
+    for (int i = 0; i < numOutliers; i++) {
+      input[random.nextInt(input.length)] = random.nextInt();
+    }
+    return input;
+  }
+
+  static int numExceptions(int[] input, int bits) {
+    int numExceptions = 0;
+    for (int value : input) {
+      if (bits < 32 && (value >>> bits) != 0) {
+        numExceptions++;
+      }
+    }
+    return numExceptions;
+  }
+}
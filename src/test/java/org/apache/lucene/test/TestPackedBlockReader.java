@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestPackedBlockReader {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  final Random random = new Random();
+
+  @Test
+  public void simdBlocks() throws Exception {
+    final int numBlocks = 1 + random.nextInt(200);
+    int[][] blocks = new int[numBlocks][];
+    int[] bitsPerValues = new int[numBlocks];
+    Path path = folder.newFile().toPath();
+    try (PackedBlockWriter writer = new PackedBlockWriter(path, BlockFormat.SIMD)) {
+      for (int i = 0; i < numBlocks; i++) {
+        final int bits = bitsPerValues[i] = random.nextInt(33);
+        blocks[i] = random.ints(128).map(x -> bits == 0 ? 0 : x >>> (32 - bits)).toArray();
+        writer.writeBlock(blocks[i], bits);
+      }
+    }
+
+    try (PackedBlockReader reader = PackedBlockReader.open(path)) {
+      assertEquals(BlockFormat.SIMD, reader.format());
+      assertEquals(numBlocks, reader.numBlocks());
+      int[] ints = new int[128];
+      for (int i = 0; i < numBlocks; i++) {
+        assertEquals(bitsPerValues[i], reader.bitsPerValue(i));
+        assertTrue(reader.next(ints));
+        assertArrayEquals("block=" + i, blocks[i], ints);
+      }
+      assertFalse(reader.next(ints));
+
+      for (int i = 0; i < 100; i++) {
+        final int block = random.nextInt(numBlocks);
+        reader.readBlock(block, ints);
+        assertArrayEquals("block=" + block, blocks[block], ints);
+        reader.seek(block);
+        assertTrue(reader.next(ints));
+        assertArrayEquals("block=" + block, blocks[block], ints);
+      }
+    }
+  }
+
+  @Test
+  public void forBlocks() throws Exception {
+    final int numBlocks = 1 + random.nextInt(200);
+    long[][] blocks = new long[numBlocks][];
+    Path path = folder.newFile().toPath();
+    try (PackedBlockWriter writer = new PackedBlockWriter(path, BlockFormat.FOR)) {
+      for (int i = 0; i < numBlocks; i++) {
+        final int bits = random.nextInt(33);
+        blocks[i] = random.longs(128, 0, 1L << bits).toArray();
+        long[] copy = blocks[i].clone();
+        writer.writeBlock(blocks[i], bits);
+        assertArrayEquals(copy, blocks[i]);
+      }
+    }
+
+    try (PackedBlockReader reader = PackedBlockReader.open(path)) {
+      assertEquals(BlockFormat.FOR, reader.format());
+      assertEquals(numBlocks, reader.numBlocks());
+      long[] longs = new long[128];
+      for (int i = 0; i < numBlocks; i++) {
+        assertTrue(reader.next(longs));
+        assertArrayEquals("block=" + i, blocks[i], longs);
+      }
+      assertFalse(reader.next(longs));
+
+      for (int i = 0; i < 100; i++) {
+        final int block = random.nextInt(numBlocks);
+        reader.readBlock(block, longs);
+        assertArrayEquals("block=" + block, blocks[block], longs);
+      }
+    }
+  }
+
+  @Test
+  public void invalidBitsPerValue() throws Exception {
+    try (PackedBlockWriter writer = new PackedBlockWriter(folder.newFile().toPath(), BlockFormat.SIMD)) {
+      assertThrows(IllegalArgumentException.class, () -> writer.writeBlock(new int[128], -1));
+      assertThrows(IllegalArgumentException.class, () -> writer.writeBlock(new int[128], 33));
+    }
+    try (PackedBlockWriter writer = new PackedBlockWriter(folder.newFile().toPath(), BlockFormat.FOR)) {
+      assertThrows(IllegalArgumentException.class, () -> writer.writeBlock(new long[128], -1));
+      assertThrows(IllegalArgumentException.class, () -> writer.writeBlock(new long[128], 33));
+    }
+  }
+
+  @Test
+  public void emptyFile() throws Exception {
+    Path path = folder.newFile().toPath();
+    new PackedBlockWriter(path, BlockFormat.SIMD).close();
+    try (PackedBlockReader reader = PackedBlockReader.open(path)) {
+      assertEquals(0, reader.numBlocks());
+      assertFalse(reader.next(new int[128]));
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.apache.lucene.test.TestSimdBitPacking.scalarPack;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestPreferredSimdBitPacking {
+
+  final Random random = new Random();
+
+  @Test
+  public void packUnpack256() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        int[] input = randomInput(256, bitsPerValue);
+        int[] packed = new int[bitsPerValue * 8];
+        SimdBitPacking256.simdPack(input, packed, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, scalarPack(input, 8, bitsPerValue), packed);
+        int[] unpacked = new int[256];
+        SimdBitPacking256.simdUnpack(packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+      }
+    }
+  }
+
+  @Test
+  public void packUnpack512() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        int[] input = randomInput(512, bitsPerValue);
+        int[] packed = new int[bitsPerValue * 16];
+        SimdBitPacking512.simdPack(input, packed, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, scalarPack(input, 16, bitsPerValue), packed);
+        int[] unpacked = new int[512];
+        SimdBitPacking512.simdUnpack(packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+      }
+    }
+  }
+
+  @Test
+  public void packUnpackPreferred() {
+    final int blockSize = PreferredSimdBitPacking.BLOCK_SIZE;
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(blockSize, bitsPerValue);
+      int[] packed = new int[PreferredSimdBitPacking.numInts(bitsPerValue)];
+      PreferredSimdBitPacking.simdPack(input, packed, bitsPerValue);
+      assertArrayEquals(scalarPack(input, blockSize / 32, bitsPerValue), packed);
+      int[] unpacked = new int[blockSize];
+      PreferredSimdBitPacking.simdUnpack(packed, unpacked, bitsPerValue);
+      assertArrayEquals(input, unpacked);
+    }
+  }
+
+  @Test
+  public void packUnpackWithOffsets() {
+    final int blockSize = PreferredSimdBitPacking.BLOCK_SIZE;
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      final int numInts = PreferredSimdBitPacking.numInts(bitsPerValue);
+      final int inOffset = random.nextInt(16);
+      final int outOffset = random.nextInt(16);
+      int[] input = randomInput(inOffset + blockSize, bitsPerValue);
+      int[] packed = new int[outOffset + numInts];
+      PreferredSimdBitPacking.simdPack(input, inOffset, packed, outOffset, bitsPerValue);
+      int[] block = Arrays.copyOfRange(input, inOffset, inOffset + blockSize);
+      assertArrayEquals(scalarPack(block, blockSize / 32, bitsPerValue), Arrays.copyOfRange(packed, outOffset, packed.length));
+      int[] unpacked = new int[inOffset + blockSize];
+      PreferredSimdBitPacking.simdUnpack(packed, outOffset, unpacked, inOffset, bitsPerValue);
+      assertArrayEquals(block, Arrays.copyOfRange(unpacked, inOffset, unpacked.length));
+    }
+  }
+
+  @Test
+  public void unpackBlocks() {
+    final int blockSize = PreferredSimdBitPacking.BLOCK_SIZE;
+    final int numBlocks = 1 + random.nextInt(10);
+    int[] bits = new int[numBlocks];
+    int[] input = new int[numBlocks * blockSize];
+    int[] packed = new int[numBlocks * PreferredSimdBitPacking.numInts(32)];
+    int offset = 0;
+    for (int block = 0; block < numBlocks; block++) {
+      bits[block] = block > 0 && random.nextBoolean() ? bits[block - 1] : 1 + random.nextInt(32);
+      int[] ints = randomInput(blockSize, bits[block]);
+      System.arraycopy(ints, 0, input, block * blockSize, blockSize);
+      PreferredSimdBitPacking.simdPack(ints, 0, packed, offset, bits[block]);
+      offset += PreferredSimdBitPacking.numInts(bits[block]);
+    }
+    int[] unpacked = new int[numBlocks * blockSize];
+    PreferredSimdBitPacking.simdUnpackBlocks(packed, 0, bits, numBlocks, unpacked, 0);
+    assertArrayEquals(input, unpacked);
+  }
+
+  @Test
+  public void getValues() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(512, bitsPerValue);
+      int[] indices = random.ints(1 + random.nextInt(100), 0, 256).toArray();
+      int[] expected = IntStream.of(indices).map(i -> input[i]).toArray();
+      int[] values = new int[indices.length];
+      int[] packed = scalarPack(Arrays.copyOf(input, 256), 8, bitsPerValue);
+      for (int i = 0; i < 256; i++) {
+        assertEquals(input[i], SimdBitPacking256.simdGet(packed, bitsPerValue, i));
+      }
+      SimdBitPacking256.simdGetMany(packed, 0, bitsPerValue, indices, indices.length, values);
+      assertArrayEquals(expected, values);
+      packed = scalarPack(input, 16, bitsPerValue);
+      for (int i = 0; i < 512; i++) {
+        assertEquals(input[i], SimdBitPacking512.simdGet(packed, bitsPerValue, i));
+      }
+      SimdBitPacking512.simdGetMany(packed, 0, bitsPerValue, indices, indices.length, values);
+      assertArrayEquals(expected, values);
+    }
+  }
+
+  @Test
+  public void getValuesPreferred() {
+    final int blockSize = PreferredSimdBitPacking.BLOCK_SIZE;
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(blockSize, bitsPerValue);
+      int[] packed = new int[PreferredSimdBitPacking.numInts(bitsPerValue)];
+      PreferredSimdBitPacking.simdPack(input, packed, bitsPerValue);
+      int[] indices = random.ints(1 + random.nextInt(100), 0, blockSize).toArray();
+      int[] values = new int[indices.length];
+      PreferredSimdBitPacking.simdGetMany(packed, 0, bitsPerValue, indices, indices.length, values);
+      assertArrayEquals(IntStream.of(indices).map(i -> input[i]).toArray(), values);
+      final int index = random.nextInt(blockSize);
+      assertEquals(input[index], PreferredSimdBitPacking.simdGet(packed, 0, bitsPerValue, index));
+    }
+  }
+
+  @Test
+  public void packWithMask() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      final int mask = bitsPerValue == 32 ? -1 : (1 << bitsPerValue) - 1;
+      int[] input = randomInput(512, 32);
+      int[] masked = IntStream.of(input).map(x -> x & mask).toArray();
+      int[] packed = new int[bitsPerValue * 8];
+      SimdBitPacking256.simdPackWithMask(input, packed, bitsPerValue);
+      assertArrayEquals(scalarPack(Arrays.copyOf(masked, 256), 8, bitsPerValue), packed);
+      packed = new int[bitsPerValue * 16];
+      SimdBitPacking512.simdPackWithMask(input, packed, bitsPerValue);
+      assertArrayEquals(scalarPack(masked, 16, bitsPerValue), packed);
+      packed = new int[PreferredSimdBitPacking.numInts(bitsPerValue)];
+      PreferredSimdBitPacking.simdPackWithMask(input, packed, bitsPerValue);
+      int blockSize = PreferredSimdBitPacking.BLOCK_SIZE;
+      assertArrayEquals(scalarPack(Arrays.copyOf(masked, blockSize), blockSize / 32, bitsPerValue), packed);
+    }
+  }
+
+  @Test
+  public void blockSize() {
+    assertEquals(128, SimdBitPacking.BLOCK_SIZE);
+    assertEquals(256, SimdBitPacking256.BLOCK_SIZE);
+    assertEquals(512, SimdBitPacking512.BLOCK_SIZE);
+    assertEquals(PreferredSimdBitPacking.BLOCK_SIZE / 32 * 12, PreferredSimdBitPacking.numInts(12));
+  }
+
+  int[] randomInput(int blockSize, int bitsPerValue) {
+    return IntStream.range(0, blockSize).map(x -> random.nextInt() >>> (32 - bitsPerValue)).toArray();
+  }
+}
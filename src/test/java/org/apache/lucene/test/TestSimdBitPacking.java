@@ -18,13 +18,37 @@ package org.apache.lucene.test;
 
 import org.junit.Test;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.stream.IntStream;
 
+import static org.apache.lucene.test.SimdBitPacking.simdFindNextGEQ;
+import static org.apache.lucene.test.SimdBitPacking.simdFindNextGEQD1;
+import static org.apache.lucene.test.SimdBitPacking.simdGet;
+import static org.apache.lucene.test.SimdBitPacking.simdGetMany;
 import static org.apache.lucene.test.SimdBitPacking.simdPack;
+import static org.apache.lucene.test.SimdBitPacking.simdMaxBits;
+import static org.apache.lucene.test.SimdBitPacking.simdMaxBitsD1;
+import static org.apache.lucene.test.SimdBitPacking.simdMaxBitsFOR;
+import static org.apache.lucene.test.SimdBitPacking.simdMin;
+import static org.apache.lucene.test.SimdBitPacking.simdPackD1;
+import static org.apache.lucene.test.SimdBitPacking.simdPackFOR;
+import static org.apache.lucene.test.SimdBitPacking.simdPackWithMask;
 import static org.apache.lucene.test.SimdBitPacking.simdUnpack;
+import static org.apache.lucene.test.SimdBitPacking.simdUnpackBlocks;
+import static org.apache.lucene.test.SimdBitPacking.simdUnpackCount;
+import static org.apache.lucene.test.SimdBitPacking.simdUnpackD1;
+import static org.apache.lucene.test.SimdBitPacking.simdUnpackFOR;
+import static org.apache.lucene.test.SimdBitPacking.simdUnpackMax;
+import static org.apache.lucene.test.SimdBitPacking.simdUnpackMin;
+import static org.apache.lucene.test.SimdBitPacking.simdUnpackSum;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 public class TestSimdBitPacking {
 
@@ -104,4 +128,418 @@ public class TestSimdBitPacking {
             assertArrayEquals(input, copy);
         }
     }
+
+  @Test
+  public void packUnpackAll() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      int[] packed = new int[bitsPerValue * 4];
+      int[] unpacked = new int[128];
+      for (int i = 0; i < 100; i++) {
+        int[] input = randomInput(bitsPerValue);
+        int[] copy = Arrays.copyOf(input, input.length);
+        simdPack(input, packed, bitsPerValue);
+        simdUnpack(packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+        assertArrayEquals(input, copy);
+      }
+    }
+  }
+
+  @Test
+  public void packWithMaskIgnoresHighBits() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      final int mask = bitsPerValue == 32 ? -1 : (1 << bitsPerValue) - 1;
+      int[] packed = new int[bitsPerValue * 4];
+      int[] expected = new int[bitsPerValue * 4];
+      int[] unpacked = new int[128];
+      for (int i = 0; i < 10; i++) {
+        int[] input = IntStream.range(0, 128).map(x -> random.nextInt()).toArray();
+        int[] masked = IntStream.of(input).map(x -> x & mask).toArray();
+        simdPackWithMask(input, packed, bitsPerValue);
+        simdPack(masked, expected, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected, packed);
+        final int outOffset = 1 + random.nextInt(16);
+        int[] packedAtOffset = new int[outOffset + bitsPerValue * 4];
+        simdPackWithMask(input, 0, packedAtOffset, outOffset, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected,
+            Arrays.copyOfRange(packedAtOffset, outOffset, packedAtOffset.length));
+        simdUnpack(packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, masked, unpacked);
+      }
+    }
+  }
+
+  @Test
+  public void packUnpackD1() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      int[] packed = new int[bitsPerValue * 4];
+      int[] expected = new int[bitsPerValue * 4];
+      int[] unpacked = new int[128];
+      for (int i = 0; i < 10; i++) {
+        final int initOffset = random.nextInt();
+        int[] deltas = randomInput(bitsPerValue);
+        int[] input = new int[128];
+        int prev = initOffset;
+        for (int j = 0; j < 128; j++) {
+          input[j] = prev += deltas[j];
+        }
+        int[] copy = Arrays.copyOf(input, input.length);
+        simdPackD1(initOffset, input, packed, bitsPerValue);
+        simdPack(deltas, expected, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected, packed);
+        simdUnpackD1(initOffset, packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+        assertArrayEquals(input, copy);
+      }
+    }
+  }
+
+  @Test
+  public void packUnpackFOR() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      int[] packed = new int[bitsPerValue * 4];
+      int[] unpacked = new int[128];
+      for (int i = 0; i < 10; i++) {
+        final int base = random.nextInt();
+        final int[] offsets = bitsPerValue == 0 ? new int[128] : randomInput(bitsPerValue);
+        // make sure that the minimum is base and that the block needs exactly bitsPerValue bits
+        final int minIndex = random.nextInt(128);
+        offsets[minIndex] = 0;
+        if (bitsPerValue > 0) {
+          offsets[(minIndex + 1 + random.nextInt(127)) % 128] = -1 >>> (32 - bitsPerValue);
+        }
+        int[] input = IntStream.of(offsets).map(x -> x + base).toArray();
+        if ((long) base + (-1L >>> (64 - bitsPerValue)) <= Integer.MAX_VALUE) {
+          assertEquals(base, simdMin(input));
+        }
+        assertEquals(bitsPerValue, simdMaxBitsFOR(base, input));
+        simdPackFOR(base, input, packed, bitsPerValue);
+        simdUnpackFOR(base, packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+      }
+    }
+  }
+
+  @Test
+  public void packUnpackWithOffsets() {
+    final int numBlocks = 5;
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      final int numInts = bitsPerValue * 4;
+      final int inStart = random.nextInt(16);
+      final int packedStart = random.nextInt(16);
+      final int outStart = random.nextInt(16);
+      int[] input = new int[inStart + numBlocks * 128];
+      for (int i = inStart; i < input.length; i++) {
+        input[i] = random.nextInt() >>> (32 - bitsPerValue);
+      }
+      int[] packed = new int[packedStart + numBlocks * numInts];
+      for (int block = 0; block < numBlocks; block++) {
+        simdPack(input, inStart + block * 128, packed, packedStart + block * numInts, bitsPerValue);
+      }
+      // every block is packed exactly like it is when packed on its own
+      int[] expected = new int[numInts];
+      for (int block = 0; block < numBlocks; block++) {
+        simdPack(Arrays.copyOfRange(input, inStart + block * 128, inStart + (block + 1) * 128), expected, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected,
+            Arrays.copyOfRange(packed, packedStart + block * numInts, packedStart + (block + 1) * numInts));
+      }
+      int[] unpacked = new int[outStart + numBlocks * 128 + 16];
+      Arrays.fill(unpacked, -1);
+      for (int block = 0; block < numBlocks; block++) {
+        simdUnpack(packed, packedStart + block * numInts, unpacked, outStart + block * 128, bitsPerValue);
+      }
+      assertArrayEquals("bitsPerValue=" + bitsPerValue, Arrays.copyOfRange(input, inStart, input.length),
+          Arrays.copyOfRange(unpacked, outStart, outStart + numBlocks * 128));
+      // nothing is written outside of the blocks
+      for (int i = 0; i < outStart; i++) {
+        assertEquals(-1, unpacked[i]);
+      }
+      for (int i = outStart + numBlocks * 128; i < unpacked.length; i++) {
+        assertEquals(-1, unpacked[i]);
+      }
+    }
+  }
+
+  @Test
+  public void unpackBlocks() {
+    final int numBlocks = 1 + random.nextInt(50);
+    int[] bits = new int[numBlocks];
+    int[] input = new int[numBlocks * 128];
+    int numInts = 0;
+    for (int block = 0; block < numBlocks; block++) {
+      // runs of blocks with the same bits per value
+      bits[block] = block > 0 && random.nextBoolean() ? bits[block - 1] : random.nextInt(33);
+      numInts += bits[block] * 4;
+      for (int i = 0; bits[block] > 0 && i < 128; i++) {
+        input[block * 128 + i] = random.nextInt() >>> (32 - bits[block]);
+      }
+    }
+    final int inOffset = random.nextInt(16);
+    final int outOffset = random.nextInt(16);
+    int[] packed = new int[inOffset + numInts];
+    for (int block = 0, offset = inOffset; block < numBlocks; offset += bits[block] * 4, block++) {
+      simdPack(input, block * 128, packed, offset, bits[block]);
+    }
+    int[] unpacked = new int[outOffset + numBlocks * 128];
+    Arrays.fill(unpacked, -1);
+    simdUnpackBlocks(packed, inOffset, bits, numBlocks, unpacked, outOffset);
+    assertArrayEquals(input, Arrays.copyOfRange(unpacked, outOffset, unpacked.length));
+  }
+
+  @Test
+  public void getSingleValues() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(bitsPerValue);
+      final int inOffset = random.nextInt(16);
+      int[] packed = new int[inOffset + bitsPerValue * 4];
+      simdPack(input, 0, packed, inOffset, bitsPerValue);
+      for (int i = 0; i < 128; i++) {
+        assertEquals("bitsPerValue=" + bitsPerValue, input[i], simdGet(packed, inOffset, bitsPerValue, i));
+      }
+    }
+  }
+
+  @Test
+  public void getManyValues() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(bitsPerValue);
+      int[] packed = new int[bitsPerValue * 4];
+      simdPack(input, packed, bitsPerValue);
+      // not a multiple of the number of lanes, so that the scalar tail is exercised too
+      int[] indices = random.ints(1 + random.nextInt(200), 0, 128).toArray();
+      int[] values = random.ints(indices.length).toArray();
+      simdGetMany(packed, 0, bitsPerValue, indices, indices.length, values);
+      assertArrayEquals("bitsPerValue=" + bitsPerValue, IntStream.of(indices).map(i -> input[i]).toArray(), values);
+    }
+  }
+
+  @Test
+  public void getManyValuesOfLastRow() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(bitsPerValue);
+      // exactly sized, so that reading past the last row of the block fails
+      int[] packed = new int[bitsPerValue * 4];
+      simdPack(input, packed, bitsPerValue);
+      int[] indices = {127, 126, 125, 124, 3, 127, 64, 124};
+      int[] values = new int[indices.length];
+      simdGetMany(packed, 0, bitsPerValue, indices, indices.length, values);
+      assertArrayEquals("bitsPerValue=" + bitsPerValue, IntStream.of(indices).map(i -> input[i]).toArray(), values);
+    }
+  }
+
+  @Test
+  public void findNextGEQ() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(bitsPerValue);
+      int[] packed = new int[bitsPerValue * 4];
+      simdPack(input, packed, bitsPerValue);
+      for (int target : randomTargets(input)) {
+        assertEquals("bitsPerValue=" + bitsPerValue, linearFindNextGEQ(input, target),
+            simdFindNextGEQ(packed, bitsPerValue, target));
+      }
+    }
+  }
+
+  @Test
+  public void findNextGEQD1() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      // increasing doc IDs, as long as the deltas don't overflow
+      final int initOffset = random.nextInt(100);
+      int[] deltas = randomInput(Math.min(bitsPerValue, 24));
+      int[] input = new int[128];
+      int prev = initOffset;
+      for (int j = 0; j < 128; j++) {
+        input[j] = prev += deltas[j];
+      }
+      int[] packed = new int[bitsPerValue * 4];
+      simdPackD1(initOffset, input, packed, bitsPerValue);
+      for (int target : randomTargets(input)) {
+        assertEquals("bitsPerValue=" + bitsPerValue, linearFindNextGEQ(input, target),
+            simdFindNextGEQD1(initOffset, packed, bitsPerValue, target));
+      }
+    }
+  }
+
+  int[] randomTargets(int[] input) {
+    IntStream.Builder targets = IntStream.builder().add(Integer.MIN_VALUE).add(Integer.MAX_VALUE);
+    for (int i = 0; i < 20; i++) {
+      final int value = input[random.nextInt(input.length)];
+      targets.add(value).add(value + 1).add(random.nextInt());
+    }
+    return targets.build().toArray();
+  }
+
+  static int linearFindNextGEQ(int[] input, int target) {
+    for (int i = 0; i < input.length; i++) {
+      if (input[i] >= target) {
+        return i;
+      }
+    }
+    return input.length;
+  }
+
+  @Test
+  public void aggregate() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(bitsPerValue);
+      final int inOffset = random.nextInt(16);
+      int[] packed = new int[inOffset + bitsPerValue * 4];
+      simdPack(input, 0, packed, inOffset, bitsPerValue);
+      final int from = input[random.nextInt(128)];
+      final int to = random.nextBoolean() ? from : input[random.nextInt(128)];
+      final String message = "bitsPerValue=" + bitsPerValue;
+      assertEquals(message, IntStream.of(input).asLongStream().sum(), simdUnpackSum(packed, inOffset, bitsPerValue, 0));
+      assertEquals(message, IntStream.of(input).min().getAsInt(),
+          simdUnpackMin(packed, inOffset, bitsPerValue, Integer.MAX_VALUE));
+      assertEquals(message, IntStream.of(input).max().getAsInt(),
+          simdUnpackMax(packed, inOffset, bitsPerValue, Integer.MIN_VALUE));
+      assertEquals(message, IntStream.of(input).filter(x -> x >= from && x <= to).count(),
+          simdUnpackCount(packed, inOffset, bitsPerValue, from, to, 0));
+    }
+  }
+
+  @Test
+  public void aggregateManyBlocks() {
+    final int numBlocks = 1 + random.nextInt(50);
+    long expectedSum = 0;
+    int expectedMax = Integer.MIN_VALUE;
+    long sum = 0;
+    int max = Integer.MIN_VALUE;
+    int[] packed = new int[128];
+    for (int block = 0; block < numBlocks; block++) {
+      final int bitsPerValue = random.nextInt(33);
+      int[] input = randomInput(bitsPerValue);
+      expectedSum += IntStream.of(input).asLongStream().sum();
+      expectedMax = Math.max(expectedMax, IntStream.of(input).max().getAsInt());
+      simdPack(input, packed, bitsPerValue);
+      sum = simdUnpackSum(packed, 0, bitsPerValue, sum);
+      max = simdUnpackMax(packed, 0, bitsPerValue, max);
+    }
+    assertEquals(expectedSum, sum);
+    assertEquals(expectedMax, max);
+  }
+
+  @Test
+  public void unpackFromMemorySegment() {
+    try (Arena arena = Arena.ofConfined()) {
+      for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+        int[] input = randomInput(bitsPerValue);
+        int[] packed = new int[bitsPerValue * 4];
+        simdPack(input, packed, bitsPerValue);
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN }) {
+          // an odd offset, so that the block is not aligned
+          final long offset = 1 + random.nextInt(15);
+          MemorySegment segment = arena.allocate(offset + packed.length * 4L);
+          MemorySegment.copy(packed, 0, segment, ValueLayout.JAVA_INT_UNALIGNED.withOrder(order), offset, packed.length);
+          int[] unpacked = random.ints(128).toArray();
+          simdUnpack(segment, offset, order, unpacked, bitsPerValue);
+          assertArrayEquals("bitsPerValue=" + bitsPerValue + " order=" + order, input, unpacked);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void unpackFromByteBuffer() {
+    for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+      int[] input = randomInput(bitsPerValue);
+      int[] packed = new int[bitsPerValue * 4];
+      simdPack(input, packed, bitsPerValue);
+      for (ByteOrder order : new ByteOrder[] { ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN }) {
+        final int offset = random.nextInt(16);
+        final int capacity = offset + packed.length * 4;
+        ByteBuffer buffer = (random.nextBoolean() ? ByteBuffer.allocate(capacity) : ByteBuffer.allocateDirect(capacity)).order(order);
+        for (int i = 0; i < packed.length; i++) {
+          buffer.putInt(offset + i * 4, packed[i]);
+        }
+        int[] unpacked = random.ints(128).toArray();
+        simdUnpack(buffer, offset, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue + " order=" + order, input, unpacked);
+      }
+    }
+  }
+
+  @Test
+  public void maxBits() {
+    assertEquals(0, simdMaxBits(new int[128]));
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        int[] input = randomInput(bitsPerValue);
+        input[random.nextInt(128)] = -1 >>> (32 - bitsPerValue);
+        assertEquals(bitsPerValue, simdMaxBits(input));
+      }
+    }
+  }
+
+  @Test
+  public void packUnpackZeroBits() {
+    // what simdMaxBits and simdMaxBitsD1 return for a block of zeros and a block of equal integers
+    int[] zeros = new int[128];
+    int[] packed = new int[0];
+    int[] unpacked = new int[128];
+    Arrays.fill(unpacked, 42);
+    simdPack(zeros, packed, simdMaxBits(zeros));
+    simdUnpack(packed, unpacked, 0);
+    assertArrayEquals(zeros, unpacked);
+
+    final int initOffset = random.nextInt();
+    int[] constant = new int[128];
+    Arrays.fill(constant, initOffset);
+    simdPackD1(initOffset, constant, packed, simdMaxBitsD1(initOffset, constant));
+    simdUnpackD1(initOffset, packed, unpacked, 0);
+    assertArrayEquals(constant, unpacked);
+  }
+
+  @Test
+  public void maxBitsD1() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        final int initOffset = random.nextInt();
+        int[] deltas = randomInput(bitsPerValue);
+        deltas[random.nextInt(128)] = -1 >>> (32 - bitsPerValue);
+        int[] input = new int[128];
+        int prev = initOffset;
+        for (int j = 0; j < 128; j++) {
+          input[j] = prev += deltas[j];
+        }
+        assertEquals(bitsPerValue, simdMaxBitsD1(initOffset, input));
+      }
+    }
+  }
+
+  @Test
+  public void packMatchesInterleavedLayout() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      int[] packed = new int[bitsPerValue * 4];
+      for (int i = 0; i < 10; i++) {
+        int[] input = randomInput(bitsPerValue);
+        simdPack(input, packed, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, scalarPack(input, 4, bitsPerValue), packed);
+      }
+    }
+  }
+
+  int[] randomInput(int bitsPerValue) {
+    if (bitsPerValue == 0) {
+      return new int[128];
+    }
+    return IntStream.range(0, 128).map(x -> random.nextInt() >>> (32 - bitsPerValue)).toArray();
+  }
+
+  // Value i lives in lane i % lanes, at bit offset (i / lanes) * bitsPerValue of that lane's stream of ints, lanes being
+  // 4 for SimdBitPacking and 8 or 16 for its wider variants.
+  static int[] scalarPack(int[] input, int lanes, int bitsPerValue) {
+    int[] packed = new int[bitsPerValue * lanes];
+    for (int i = 0; i < input.length; i++) {
+      int lane = i % lanes;
+      int bitOffset = (i / lanes) * bitsPerValue;
+      int word = bitOffset / 32;
+      int shift = bitOffset % 32;
+      packed[word * lanes + lane] |= input[i] << shift;
+      if (shift + bitsPerValue > 32) {
+        packed[(word + 1) * lanes + lane] |= input[i] >>> (32 - shift);
+      }
+    }
+    return packed;
+  }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+
+// The generated shapes must all produce the same layout as the unrolled SimdBitPacking.
+public class TestSimdBitPackingShapes {
+
+  final Random random = new Random();
+
+  @Test
+  public void loop() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        final int bpv = bitsPerValue;
+        int[] input = IntStream.range(0, 128).map(x -> random.nextInt() >>> (32 - bpv)).toArray();
+        int[] expected = new int[bitsPerValue * 4];
+        SimdBitPacking.simdPack(input, expected, bitsPerValue);
+        int[] packed = new int[bitsPerValue * 4];
+        SimdBitPackingLoop.simdPack(input, packed, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected, packed);
+        int[] unpacked = new int[128];
+        SimdBitPackingLoop.simdUnpack(packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+      }
+    }
+  }
+
+  @Test
+  public void table() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        final int bpv = bitsPerValue;
+        int[] input = IntStream.range(0, 128).map(x -> random.nextInt() >>> (32 - bpv)).toArray();
+        int[] expected = new int[bitsPerValue * 4];
+        SimdBitPacking.simdPack(input, expected, bitsPerValue);
+        int[] packed = new int[bitsPerValue * 4];
+        SimdBitPackingTable.simdPack(input, packed, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected, packed);
+        int[] unpacked = new int[128];
+        SimdBitPackingTable.simdUnpack(packed, unpacked, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, unpacked);
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.apache.lucene.test.SimdBitPackingTail.numInts;
+import static org.apache.lucene.test.SimdBitPackingTail.simdPackTail;
+import static org.apache.lucene.test.SimdBitPackingTail.simdUnpackTail;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestSimdBitPackingTail {
+
+  final Random random = new Random();
+
+  @Test
+  public void packUnpackTail() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int length = 1; length <= 128; length++) {
+        final int bits = bitsPerValue;
+        // exactly sized arrays, so that reads or writes past the tail fail
+        int[] input = IntStream.range(0, length).map(x -> random.nextInt() >>> (32 - bits)).toArray();
+        int[] packed = new int[numInts(length, bitsPerValue)];
+        simdPackTail(input, length, packed, bitsPerValue);
+        int[] unpacked = new int[length];
+        simdUnpackTail(packed, unpacked, length, bitsPerValue);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue + " length=" + length, input, unpacked);
+      }
+    }
+  }
+
+  @Test
+  public void unpackLeavesRestOfOutput() {
+    final int bitsPerValue = 1 + random.nextInt(32);
+    final int length = 1 + random.nextInt(127);
+    int[] input = IntStream.range(0, length).map(x -> random.nextInt() >>> (32 - bitsPerValue)).toArray();
+    int[] packed = new int[numInts(length, bitsPerValue)];
+    simdPackTail(input, length, packed, bitsPerValue);
+    int[] unpacked = new int[128];
+    Arrays.fill(unpacked, 42);
+    simdUnpackTail(packed, unpacked, length, bitsPerValue);
+    assertArrayEquals(input, Arrays.copyOf(unpacked, length));
+    for (int i = length; i < 128; i++) {
+      assertEquals(42, unpacked[i]);
+    }
+  }
+
+  @Test
+  public void fullTailMatchesBlock() {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      final int bits = bitsPerValue;
+      int[] input = IntStream.range(0, 128).map(x -> random.nextInt() >>> (32 - bits)).toArray();
+      assertEquals(bitsPerValue * 4, numInts(128, bitsPerValue));
+      int[] expected = new int[bitsPerValue * 4];
+      SimdBitPacking.simdPack(input, expected, bitsPerValue);
+      int[] packed = new int[bitsPerValue * 4];
+      simdPackTail(input, 128, packed, bitsPerValue);
+      assertArrayEquals("bitsPerValue=" + bitsPerValue, expected, packed);
+    }
+  }
+}
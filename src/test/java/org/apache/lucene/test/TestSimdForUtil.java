@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.test;
+
+import org.junit.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class TestSimdForUtil {
+
+  final Random random = new Random();
+
+  final ForUtil forUtil = new ForUtil();
+
+  final SimdForUtil simdForUtil = new SimdForUtil();
+
+  @Test
+  public void decodeMatchesForUtil() throws Exception {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        long[] input = random.longs(128, 0, 1L << bitsPerValue).toArray();
+        long[] packed = new long[bitsPerValue * 2];
+        forUtil.encode(Arrays.copyOf(input, input.length), bitsPerValue, packed);
+        long[] packedCopy = Arrays.copyOf(packed, packed.length);
+
+        long[] expected = new long[128];
+        forUtil.decode(bitsPerValue, packed, expected);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, expected);
+        long[] actual = new long[128];
+        simdForUtil.decode(bitsPerValue, packed, actual);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected, actual);
+        assertArrayEquals(packedCopy, packed);
+      }
+    }
+  }
+
+  @Test
+  public void decodeTo32MatchesForUtil() throws Exception {
+    for (int bitsPerValue = 1; bitsPerValue <= 32; bitsPerValue++) {
+      for (int i = 0; i < 10; i++) {
+        long[] input = random.longs(128, 0, 1L << bitsPerValue).toArray();
+        long[] packed = new long[bitsPerValue * 2];
+        forUtil.encode(Arrays.copyOf(input, input.length), bitsPerValue, packed);
+
+        // the same garbage in both outputs, decodeTo32 only writes the first 64 longs
+        long[] expected = random.longs(128).toArray();
+        long[] actual = Arrays.copyOf(expected, expected.length);
+        forUtil.decodeTo32(bitsPerValue, packed, expected);
+        simdForUtil.decodeTo32(bitsPerValue, packed, actual);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, expected, actual);
+      }
+    }
+  }
+
+  @Test
+  public void decodeFromDataInput() throws Exception {
+    final int numBlocks = 1 + random.nextInt(20);
+    long[][] blocks = new long[numBlocks][];
+    int[] bitsPerValues = new int[numBlocks];
+    ByteBuffer buffer = ByteBuffer.allocate(numBlocks * forUtil.numBytes(32));
+    ByteBufferDataOutput out = new ByteBufferDataOutput(buffer);
+    for (int i = 0; i < numBlocks; i++) {
+      bitsPerValues[i] = 1 + random.nextInt(32);
+      blocks[i] = random.longs(128, 0, 1L << bitsPerValues[i]).toArray();
+      forUtil.encode(Arrays.copyOf(blocks[i], 128), bitsPerValues[i], out);
+    }
+    ByteBufferDataInput in = new ByteBufferDataInput(buffer);
+    long[] decoded = new long[128];
+    for (int i = 0; i < numBlocks; i++) {
+      simdForUtil.decode(bitsPerValues[i], in, decoded);
+      assertArrayEquals("block=" + i, blocks[i], decoded);
+    }
+  }
+
+  @Test
+  public void decodeFromMemorySegment() throws Exception {
+    try (Arena arena = Arena.ofConfined()) {
+      for (int bitsPerValue = 0; bitsPerValue <= 32; bitsPerValue++) {
+        long[] input = random.longs(128, 0, 1L << bitsPerValue).toArray();
+        long[] packed = new long[bitsPerValue * 2];
+        forUtil.encode(Arrays.copyOf(input, input.length), bitsPerValue, packed);
+        // an odd offset, so that the block is not aligned, and exactly sized, so that reading past the block fails
+        final long offset = 1 + random.nextInt(15);
+        MemorySegment segment = arena.allocate(offset + packed.length * 8L);
+        MemorySegment.copy(packed, 0, segment, ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN), offset, packed.length);
+        long[] decoded = random.longs(128).toArray();
+        simdForUtil.decode(bitsPerValue, segment, offset, decoded);
+        assertArrayEquals("bitsPerValue=" + bitsPerValue, input, decoded);
+      }
+    }
+  }
+}